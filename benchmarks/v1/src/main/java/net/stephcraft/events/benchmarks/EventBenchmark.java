@@ -0,0 +1,86 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+
+/**
+ * Reflective v1 dispatch: trigger(Object...) and bind/unbind churn
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventBenchmark {
+	
+	public static class Handler {
+		private final Blackhole blackhole;
+		
+		public Handler(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+		
+		public void onJump() {
+			blackhole.consume(this);
+		}
+		
+		public void onCollect(Integer points) {
+			blackhole.consume(points);
+		}
+	}
+	
+	@Param({ "1", "10", "100", "1000", "10000" })
+	public int listeners;
+	
+	private final Integer points = 100;
+	
+	private Event onJump;
+	private Event onCollect;
+	private Handler handler;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		onJump = new Event();
+		onCollect = new Event(Integer.class);
+		
+		for(int index = 0; index < listeners; index++) {
+			Handler handler = new Handler(blackhole);
+			onJump.bind(handler, "onJump");
+			onCollect.bind(handler, "onCollect");
+		}
+		
+		handler = new Handler(blackhole);
+	}
+	
+	@Benchmark
+	public void trigger0() {
+		onJump.trigger();
+	}
+	
+	@Benchmark
+	public void trigger1() {
+		onCollect.trigger(points);
+	}
+	
+	@Benchmark
+	public boolean bindUnbind() {
+		onCollect.bind(handler, "onCollect");
+		onCollect.unbind(handler, "onCollect");
+		return onCollect.bound(handler, "onCollect");
+	}
+}
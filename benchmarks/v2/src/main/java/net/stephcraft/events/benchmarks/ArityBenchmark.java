@@ -0,0 +1,75 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+
+/**
+ * Direct trigger cost by number of event parameters
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArityBenchmark {
+	
+	@Param({ "1", "10" })
+	public int listeners;
+	
+	private final Integer value = 1;
+	
+	private Event.P0 p0;
+	private Event.P1<Integer> p1;
+	private Event.P5<Integer,Integer,Integer,Integer,Integer> p5;
+	private Event.P9<Integer,Integer,Integer,Integer,Integer,Integer,Integer,Integer,Integer> p9;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		p0 = Event.P0.create();
+		p1 = Event.P1.create();
+		p5 = Event.P5.create();
+		p9 = Event.P9.create();
+		
+		for(int index = 0; index < listeners; index++) {
+			p0.bind(() -> blackhole.consume(this));
+			p1.bind((a) -> blackhole.consume(a));
+			p5.bind((a, b, c, d, e) -> blackhole.consume(e));
+			p9.bind((a, b, c, d, e, f, g, h, i) -> blackhole.consume(i));
+		}
+	}
+	
+	@Benchmark
+	public void trigger0() {
+		p0.trigger();
+	}
+	
+	@Benchmark
+	public void trigger1() {
+		p1.trigger(value);
+	}
+	
+	@Benchmark
+	public void trigger5() {
+		p5.trigger(value, value, value, value, value);
+	}
+	
+	@Benchmark
+	public void trigger9() {
+		p9.trigger(value, value, value, value, value, value, value, value, value);
+	}
+}
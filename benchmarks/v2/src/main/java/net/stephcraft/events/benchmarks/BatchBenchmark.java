@@ -0,0 +1,80 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventBatchOrder;
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Firing the same event for many entities: a trigger per entity vs one batch, scores are per entity
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+	
+	private static final int ENTITIES = 1000;
+	
+	@Param({ "1", "10" })
+	public int listeners;
+	
+	private final Integer[] damages = new Integer[ENTITIES];
+	private final Object[] entities = new Object[ENTITIES];
+	private Event.P2<Object, Integer> event;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		event = Event.P2.create(EventFlag.CANCELLABLE);
+		
+		for(int index = 0; index < listeners; index++)
+			event.bind((entity, damage) -> blackhole.consume(damage), index, true);
+		
+		event.bind((entity, damage) -> event.setCancelled(damage > 900), listeners / 2);
+		
+		for(int index = 0; index < ENTITIES; index++) {
+			entities[index] = new Object();
+			damages[index] = index;
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES)
+	public void trigger(Blackhole blackhole) {
+		for(int index = 0; index < ENTITIES; index++) {
+			event.trigger(entities[index], damages[index]);
+			blackhole.consume(event.isCancelled());
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES)
+	public BitSet eventMajor() {
+		return event.triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, ENTITIES, entities, damages);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES)
+	public BitSet listenerMajor() {
+		return event.triggerBatch(EventState.DEFAULT, EventBatchOrder.LISTENER_MAJOR, ENTITIES, entities, damages);
+	}
+}
@@ -0,0 +1,62 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.Listener;
+import net.stephcraft.events.Subscription;
+
+/**
+ * Bind/unbind churn against an event that already has listeners, by listener or through the subscription
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark {
+	
+	@Param({ "0", "10", "100", "1000" })
+	public int listeners;
+	
+	private Event.P1<Integer> event;
+	private Listener.P1<Integer> listener;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		event = Event.P1.create();
+		
+		for(int index = 0; index < listeners; index++)
+			event.bind((a) -> blackhole.consume(a), index % 5);
+		
+		listener = (a) -> blackhole.consume(a);
+	}
+	
+	@Benchmark
+	public boolean bindUnbind() {
+		event.bind(listener, 2);
+		event.unbind(listener);
+		return event.bound(listener);
+	}
+	
+	@Benchmark
+	public boolean bindCancel() {
+		Subscription subscription = event.bind(listener, 2);
+		subscription.cancel();
+		return subscription.isActive();
+	}
+}
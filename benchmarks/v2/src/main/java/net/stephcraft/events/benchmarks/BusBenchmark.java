@@ -0,0 +1,65 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.EventBus;
+
+/**
+ * Subscribers of a payload class and of its supertypes, posted on the bus vs an Event.P1 holding the same listeners
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BusBenchmark {
+	
+	public interface Damage {}
+	public static class EntityDamage implements Damage {}
+	public static class FallDamage extends EntityDamage {}
+	
+	private final FallDamage payload = new FallDamage();
+	
+	private Event.P1<FallDamage> event;
+	private EventBus bus;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		event = Event.P1.create();
+		event.bind((damage) -> blackhole.consume(damage));
+		event.bind((damage) -> blackhole.consume(damage));
+		event.bind((damage) -> blackhole.consume(damage));
+		
+		bus = new EventBus();
+		bus.subscribe(Damage.class, (damage) -> blackhole.consume(damage));
+		bus.subscribe(EntityDamage.class, (damage) -> blackhole.consume(damage));
+		bus.subscribe(FallDamage.class, (damage) -> blackhole.consume(damage));
+		
+		// never reached
+		bus.subscribe(String.class, (text) -> blackhole.consume(text));
+	}
+	
+	@Benchmark
+	public void event() {
+		event.trigger(payload);
+	}
+	
+	@Benchmark
+	public void bus() {
+		bus.post(payload);
+	}
+}
@@ -0,0 +1,77 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.CoalescingEventQueue;
+import net.stephcraft.events.DeferredEventQueue;
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventDrainOrder;
+
+/**
+ * A tick of movement posts for a few entities, every post dispatched vs the latest per entity
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoalescingBenchmark {
+	
+	private static final int TICK = 1024;
+	private static final int ENTITIES = 16;
+	
+	private final Object[] entities = new Object[ENTITIES];
+	
+	private Event.ObjInt2<Object> deferred;
+	private Event.ObjInt2<Object> coalesced;
+	private DeferredEventQueue deferredQueue;
+	private CoalescingEventQueue coalescingQueue;
+	
+	@Setup
+	public void setup() {
+		for(int index = 0; index < ENTITIES; index++)
+			entities[index] = new Object();
+		
+		deferred = Event.ObjInt2.create();
+		coalesced = Event.ObjInt2.create();
+		deferredQueue = new DeferredEventQueue(EventDrainOrder.FIFO, TICK);
+		coalescingQueue = new CoalescingEventQueue();
+		deferred.setQueue(deferredQueue);
+		coalescingQueue.coalesce(coalesced, (slot) -> slot.get(0));
+		
+		// listeners doing some work with the position
+		for(Event.ObjInt2<Object> event : List.of(deferred, coalesced))
+			event.bind((entity, position) -> Blackhole.consumeCPU(64));
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void deferred() {
+		for(int index = 0; index < TICK; index++)
+			deferred.post(entities[index & (ENTITIES - 1)], index);
+		deferredQueue.drain();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void coalesced() {
+		for(int index = 0; index < TICK; index++)
+			coalesced.post(entities[index & (ENTITIES - 1)], index);
+		coalescingQueue.drain();
+	}
+}
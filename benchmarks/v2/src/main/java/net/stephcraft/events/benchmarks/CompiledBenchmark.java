@@ -0,0 +1,68 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Generic dispatch loop vs EventFlag.COMPILED, listeners of a few lambda classes (megamorphic in the loop)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompiledBenchmark {
+
+	@Param({ "1", "4", "16" })
+	private int listeners;
+
+	private final Object entity = new Object();
+	private int damage;
+
+	private Event.ObjInt2<Object> generic;
+	private Event.ObjInt2<Object> compiled;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		generic = Event.ObjInt2.create();
+		compiled = Event.ObjInt2.create(EventFlag.COMPILED);
+
+		for(Event.ObjInt2<Object> event : List.of(generic, compiled)) {
+			for(int i = 0; i < listeners; i++) {
+				switch(i % 4) {
+					case 0: event.bind((entity, damage) -> blackhole.consume(damage)); break;
+					case 1: event.bind((entity, damage) -> blackhole.consume(entity)); break;
+					case 2: event.bind((entity, damage) -> blackhole.consume(damage + 1)); break;
+					default: event.bind((entity, damage) -> blackhole.consume(damage * 2)); break;
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void generic() {
+		generic.trigger(entity, damage++);
+	}
+
+	@Benchmark
+	public void compiled() {
+		compiled.trigger(entity, damage++);
+	}
+}
@@ -0,0 +1,75 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.Listener;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * One concurrent event shared by every benchmark thread, run with -t 1, 2, 4... to measure scaling
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark {
+	
+	@Param({ "10" })
+	public int listeners;
+	
+	private final Integer value = 1;
+	
+	private Event.P1<Integer> event;
+	private Listener.P1<Integer> listener;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		event = Event.P1.create(EventFlag.CANCELLABLE, EventFlag.CONCURRENT);
+		
+		for(int index = 0; index < listeners; index++)
+			event.bind((a) -> blackhole.consume(a), index, true);
+		
+		event.bind((a) -> event.setCancelled(a < 0), listeners / 2);
+		listener = (a) -> blackhole.consume(a);
+	}
+	
+	@Benchmark
+	public boolean trigger() {
+		event.trigger(value);
+		return event.isCancelled();
+	}
+	
+	@Benchmark
+	@Group("churn")
+	@GroupThreads(3)
+	public boolean triggerWhileBinding() {
+		event.trigger(value);
+		return event.isCancelled();
+	}
+	
+	@Benchmark
+	@Group("churn")
+	@GroupThreads(1)
+	public void bindUnbind() {
+		event.bind(listener, 2);
+		event.unbind(listener);
+	}
+}
@@ -0,0 +1,67 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.DeferredEventQueue;
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventDrainOrder;
+
+/**
+ * A tick of events, triggered as they happen vs posted and drained at the end of the tick
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeferredBenchmark {
+	
+	private static final int TICK = 256;
+	
+	private final Object entity = new Object();
+	
+	private Event.ObjInt2<Object> triggered;
+	private Event.ObjInt2<Object> posted;
+	private DeferredEventQueue queue;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		triggered = Event.ObjInt2.create();
+		posted = Event.ObjInt2.create();
+		queue = new DeferredEventQueue(EventDrainOrder.FIFO, TICK);
+		posted.setQueue(queue);
+		
+		for(Event.ObjInt2<Object> event : List.of(triggered, posted))
+			event.bind((entity, damage) -> blackhole.consume(damage));
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void trigger() {
+		for(int index = 0; index < TICK; index++)
+			triggered.trigger(entity, index);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void post() {
+		for(int index = 0; index < TICK; index++)
+			posted.post(entity, index);
+		queue.drain();
+	}
+}
@@ -0,0 +1,79 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.Filter;
+
+/**
+ * Listeners returning early on the same condition vs bound behind one shared filter, half the triggers pass.
+ * Listeners come from a few lambda classes so their calls are megamorphic, as with listeners of unrelated objects
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+	@Param({ "1", "10", "100" })
+	private int listeners;
+
+	private final Object entity = new Object();
+	private int damage;
+
+	private Event.ObjInt2<Object> inline;
+	private Event.ObjInt2<Object> filtered;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		inline = Event.ObjInt2.create();
+		filtered = Event.ObjInt2.create();
+
+		final Filter.ObjInt2<Object> even = (entity, damage) -> (damage & 1) == 0;
+		for(int i = 0; i < listeners; i++) {
+			switch(i % 4) {
+				case 0:
+					inline.bind((entity, damage) -> { if((damage & 1) == 0) blackhole.consume(damage); });
+					filtered.bind((entity, damage) -> blackhole.consume(damage), 0, even);
+					break;
+				case 1:
+					inline.bind((entity, damage) -> { if((damage & 1) == 0) blackhole.consume(entity); });
+					filtered.bind((entity, damage) -> blackhole.consume(entity), 0, even);
+					break;
+				case 2:
+					inline.bind((entity, damage) -> { if((damage & 1) == 0) blackhole.consume(damage + 1); });
+					filtered.bind((entity, damage) -> blackhole.consume(damage + 1), 0, even);
+					break;
+				default:
+					inline.bind((entity, damage) -> { if((damage & 1) == 0) blackhole.consume(damage * 2); });
+					filtered.bind((entity, damage) -> blackhole.consume(damage * 2), 0, even);
+					break;
+			}
+		}
+	}
+
+	@Benchmark
+	public void inline() {
+		inline.trigger(entity, damage++);
+	}
+
+	@Benchmark
+	public void filtered() {
+		filtered.trigger(entity, damage++);
+	}
+}
@@ -0,0 +1,83 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Plain vs cancellable vs chronicled events, with one cancelling listener and one ignoring cancelled events
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlagsBenchmark {
+	
+	@Param({ "PLAIN", "CANCELLABLE", "CHRONICLED" })
+	public String mode;
+	
+	@Param({ "10" })
+	public int listeners;
+	
+	private final Integer value = 1;
+	
+	private Event.P1<Integer> event;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		switch(mode) {
+			case "CANCELLABLE": event = Event.P1.create(EventFlag.CANCELLABLE); break;
+			case "CHRONICLED": event = Event.P1.create(EventFlag.CANCELLABLE, EventFlag.CHRONICLED); break;
+			default: event = Event.P1.create(); break;
+		}
+		
+		boolean chronicled = mode.equals("CHRONICLED");
+		boolean cancellable = !mode.equals("PLAIN");
+		
+		for(int index = 0; index < listeners; index++) {
+			if(chronicled) {
+				event.bind(EventState.PRE, (a) -> blackhole.consume(a), index, true);
+				event.bind(EventState.POST, (a) -> blackhole.consume(a), index);
+			}
+			else event.bind((a) -> blackhole.consume(a), index, true);
+		}
+		
+		if(cancellable) {
+			EventState state = chronicled ? EventState.PRE : EventState.DEFAULT;
+			event.bind(state, (a) -> event.setCancelled(a < 0), listeners / 2);
+		}
+	}
+	
+	@Benchmark
+	public void trigger() {
+		event.trigger(value);
+	}
+	
+	@Benchmark
+	public boolean triggerRunnable() {
+		if(mode.equals("PLAIN")) {
+			event.trigger(value);
+			return event.isCancelled();
+		}
+		
+		event.trigger(value, () -> {});
+		return event.isCancelled();
+	}
+}
@@ -0,0 +1,66 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.stephcraft.events.Event;
+
+/**
+ * Event.flush of despawned entities, events in public, private and inherited fields
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlushBenchmark {
+	
+	private static final int ENTITIES = 100;
+	
+	public static class Living {
+		public final Event.P1<Integer> onDamage = Event.P1.create();
+		protected int health;
+	}
+	
+	public static class Entity extends Living {
+		public final Event.P0 onSpawn = Event.P0.create();
+		private final Event.P2<Entity, Integer> onMove = Event.P2.create();
+		private String name;
+	}
+	
+	private final List<Entity> entities = new ArrayList<>();
+	
+	@Setup
+	public void setup() {
+		for(int index = 0; index < ENTITIES; index++)
+			entities.add(new Entity());
+	}
+	
+	@Benchmark
+	public Entity flush() {
+		final Entity entity = entities.get(0);
+		Event.flush(entity);
+		return entity;
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES)
+	public List<Entity> flushAll() {
+		Event.flushAll(entities);
+		return entities;
+	}
+}
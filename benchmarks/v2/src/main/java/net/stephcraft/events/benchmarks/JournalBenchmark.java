@@ -0,0 +1,79 @@
+package net.stephcraft.events.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.EventJournal;
+import net.stephcraft.events.JournalCodec;
+
+/**
+ * A tick of events, triggered vs triggered and recorded into a journal
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+	
+	private static final int TICK = 256;
+	
+	private final String entity = "zombie";
+	
+	private Event.ObjInt2<String> triggered;
+	private Event.ObjInt2<String> recorded;
+	private Path path;
+	private EventJournal journal;
+	
+	@Setup
+	public void setup(Blackhole blackhole) throws IOException {
+		triggered = Event.ObjInt2.create();
+		recorded = Event.ObjInt2.create();
+		path = Files.createTempFile("benchmark", ".journal");
+		journal = new EventJournal(path, 1 << 20);
+		journal.record(recorded, 1, JournalCodec.STRING);
+		
+		for(Event.ObjInt2<String> event : List.of(triggered, recorded))
+			event.bind((entity, damage) -> blackhole.consume(damage));
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		journal.close();
+		Files.deleteIfExists(path);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void trigger() {
+		for(int index = 0; index < TICK; index++)
+			triggered.trigger(entity, index);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TICK)
+	public void record() {
+		for(int index = 0; index < TICK; index++)
+			recorded.trigger(entity, index);
+		journal.clear();
+	}
+}
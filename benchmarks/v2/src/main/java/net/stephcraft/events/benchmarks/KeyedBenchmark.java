@@ -0,0 +1,75 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.KeyedEvent;
+import net.stephcraft.events.Listener;
+
+/**
+ * One listener per key (entity), filtering on a shared event vs a keyed event
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KeyedBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int listeners;
+
+	private Integer[] entities;
+	private int index;
+
+	private Event.P2<Integer, Integer> filtered;
+	private KeyedEvent<Integer, Listener.P2<Integer, Integer>, Event.P2<Integer, Integer>> keyed;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		entities = new Integer[listeners];
+		filtered = Event.P2.create();
+		keyed = KeyedEvent.create(Event.P2::create);
+
+		for(int i = 0; i < listeners; i++) {
+			final Integer entity = i;
+			entities[i] = entity;
+			filtered.bind((target, damage) -> {
+				if(target == entity) blackhole.consume(damage);
+			});
+			keyed.bind(entity, (target, damage) -> blackhole.consume(damage));
+		}
+	}
+
+	private Integer next() {
+		final Integer entity = entities[index];
+		if(++index == entities.length) index = 0;
+		return entity;
+	}
+
+	@Benchmark
+	public void filtered() {
+		final Integer entity = next();
+		filtered.trigger(entity, entity);
+	}
+
+	@Benchmark
+	public void keyed() {
+		final Integer entity = next();
+		keyed.get(entity).trigger(entity, entity);
+	}
+}
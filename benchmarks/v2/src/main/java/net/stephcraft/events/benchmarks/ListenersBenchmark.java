@@ -0,0 +1,56 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Direct and reflective trigger cost by number of bound listeners
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenersBenchmark {
+	
+	@Param({ "1", "10", "100", "1000", "10000" })
+	public int listeners;
+	
+	private final Integer value = 1;
+	
+	private Event.P1<Integer> event;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		event = Event.P1.create();
+		
+		for(int index = 0; index < listeners; index++)
+			event.bind((a) -> blackhole.consume(a), index % 5);
+	}
+	
+	@Benchmark
+	public void trigger() {
+		event.trigger(value);
+	}
+	
+	@Benchmark
+	public void reflectionTrigger() {
+		event.reflectionTrigger(EventState.DEFAULT, value);
+	}
+}
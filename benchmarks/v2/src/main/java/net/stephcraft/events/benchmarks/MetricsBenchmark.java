@@ -0,0 +1,59 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Cost of EventFlag.METRICS, disabled must match ArityBenchmark.trigger1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+	
+	@Param({ "1", "10" })
+	public int listeners;
+	
+	private final Object argument = new Object();
+	private Event.P1<Object> disabled;
+	private Event.P1<Object> enabled;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		disabled = Event.P1.create();
+		enabled = Event.P1.create(EventFlag.METRICS);
+		
+		for(int index = 0; index < listeners; index++) {
+			disabled.bind((a) -> blackhole.consume(a));
+			enabled.bind((a) -> blackhole.consume(a));
+		}
+	}
+	
+	@Benchmark
+	public void disabled() {
+		disabled.trigger(argument);
+	}
+	
+	@Benchmark
+	public void enabled() {
+		enabled.trigger(argument);
+	}
+}
@@ -0,0 +1,84 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Redirect chains (entity, world, global) and listeners triggering other events
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestedBenchmark {
+	
+	@Param({ "1", "2", "3" })
+	public int hops;
+	
+	private final Integer value = 1;
+	private final Object emitter = new Object();
+	
+	private Event.P1<Integer> redirected;
+	private Event.P1<Integer> nested;
+	
+	@Setup
+	public void setup(Blackhole blackhole) {
+		Event.P1<Integer> entity = Event.P1.create(EventFlag.CANCELLABLE);
+		Event.P2<Object, Integer> world = Event.P2.create(EventFlag.CANCELLABLE);
+		Event.P3<Object, Object, Integer> global = Event.P3.create(EventFlag.CANCELLABLE);
+		Event.P4<Object, Object, Object, Integer> root = Event.P4.create(EventFlag.CANCELLABLE);
+		
+		entity.bind((a) -> blackhole.consume(a));
+		world.bind((e, a) -> blackhole.consume(a));
+		global.bind((e, w, a) -> blackhole.consume(a));
+		root.bind((e, w, g, a) -> blackhole.consume(a));
+		
+		entity.redirect(world, emitter);
+		if(hops > 1) world.redirect(global, emitter);
+		if(hops > 2) global.redirect(root, emitter);
+		redirected = entity;
+		
+		// same shape, hand written nesting
+		List<Event.P1<Integer>> chain = new ArrayList<>();
+		for(int index = 0; index <= hops; index++) {
+			Event.P1<Integer> event = Event.P1.create(EventFlag.CANCELLABLE);
+			event.bind((a) -> blackhole.consume(a));
+			chain.add(event);
+		}
+		
+		for(int index = 0; index < hops; index++) {
+			Event.P1<Integer> next = chain.get(index + 1);
+			chain.get(index).bind((a) -> next.trigger(a), Integer.MAX_VALUE);
+		}
+		nested = chain.get(0);
+	}
+	
+	@Benchmark
+	public void redirect() {
+		redirected.trigger(value);
+	}
+	
+	@Benchmark
+	public void nested() {
+		nested.trigger(value);
+	}
+}
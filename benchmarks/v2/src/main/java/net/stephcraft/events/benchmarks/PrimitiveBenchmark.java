@@ -0,0 +1,54 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+
+/**
+ * Numeric events, boxed through P2 vs unboxed through ObjInt2 (values outside the Integer cache)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveBenchmark {
+
+	private final Object entity = new Object();
+	private int damage = 1000;
+
+	private Event.P2<Object, Integer> boxed;
+	private Event.ObjInt2<Object> primitive;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		boxed = Event.P2.create();
+		boxed.bind((entity, damage) -> blackhole.consume(damage.intValue()));
+
+		primitive = Event.ObjInt2.create();
+		primitive.bind((entity, damage) -> blackhole.consume(damage));
+	}
+
+	@Benchmark
+	public void boxed() {
+		boxed.trigger(entity, damage++ & 0xFFFF | 0x1000);
+	}
+
+	@Benchmark
+	public void primitive() {
+		primitive.trigger(entity, damage++ & 0xFFFF | 0x1000);
+	}
+}
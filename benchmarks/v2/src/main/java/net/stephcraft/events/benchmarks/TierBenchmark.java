@@ -0,0 +1,61 @@
+package net.stephcraft.events.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * CPU heavy listeners of a single priority, one after another vs EventFlag.PARALLEL_TIER (scales with the cores)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TierBenchmark {
+
+	@Param({ "4", "16" })
+	private int listeners;
+
+	private final Object entity = new Object();
+
+	private Event.P1<Object> sequential;
+	private Event.P1<Object> tiered;
+
+	@Setup
+	public void setup() {
+		sequential = Event.P1.create();
+		tiered = Event.P1.create(EventFlag.PARALLEL_TIER);
+
+		for(Event.P1<Object> event : List.of(sequential, tiered)) {
+			for(int i = 0; i < listeners; i++)
+				event.bind((entity) -> Blackhole.consumeCPU(10000));
+		}
+	}
+
+	@Benchmark
+	public void sequential() {
+		sequential.trigger(entity);
+	}
+
+	@Benchmark
+	public void tiered() {
+		tiered.trigger(entity);
+	}
+}
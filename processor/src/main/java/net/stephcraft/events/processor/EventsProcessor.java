@@ -0,0 +1,307 @@
+package net.stephcraft.events.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the arity specialized events and listeners requested by {@link GenerateEvents}
+ * from the <code>event.template</code> resource, the template <code>Event.P0</code> to <code>Event.P9</code> are generated from too
+ */
+@SupportedAnnotationTypes("net.stephcraft.events.processor.GenerateEvents")
+public class EventsProcessor extends AbstractProcessor {
+
+	private static final int MAX_ARITY = 26;
+
+	private String template;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment environment) {
+		for(Element element : environment.getElementsAnnotatedWith(GenerateEvents.class)) {
+			if(!element.getKind().isClass() && !element.getKind().isInterface()) continue;
+
+			try {
+				generate((TypeElement) element);
+			}
+			catch(IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate events: " + e.getMessage(), element);
+			}
+		}
+
+		return true;
+	}
+
+	private void generate(TypeElement element) throws IOException {
+		GenerateEvents settings = element.getAnnotation(GenerateEvents.class);
+
+		if(settings.maxArity() < 0 || settings.maxArity() > MAX_ARITY) {
+			error(element, "maxArity must be between 0 and " + MAX_ARITY);
+			return;
+		}
+
+		List<String> primitives = new ArrayList<>();
+		for(TypeMirror type : getPrimitives(settings)) {
+			if(!type.getKind().isPrimitive()) {
+				error(element, type + " is not a primitive type");
+				return;
+			}
+			primitives.add(type.toString());
+		}
+
+		// every signature: objects only up to maxArity, then mixes with at least one primitive
+		List<String[]> signatures = new ArrayList<>();
+		for(int arity = 0; arity <= settings.maxArity(); arity++)
+			signatures.add(new String[arity]);
+
+		int primitiveArity = Math.min(settings.primitiveArity(), MAX_ARITY);
+		for(int arity = 1; arity <= primitiveArity && !primitives.isEmpty(); arity++) {
+			int combinations = (int) Math.pow(primitives.size() + 1, arity);
+
+			for(int combination = 0; combination < combinations; combination++) {
+				String[] kinds = new String[arity];
+				boolean primitive = false;
+
+				for(int position = 0, rest = combination; position < arity; position++, rest /= primitives.size() + 1) {
+					int kind = rest % (primitives.size() + 1);
+					kinds[arity - 1 - position] = kind == 0 ? null : primitives.get(kind - 1);
+					primitive |= kind != 0;
+				}
+
+				if(primitive) signatures.add(kinds);
+			}
+		}
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+		String event = element.getSimpleName() + "Event";
+		String listener = element.getSimpleName() + "Listener";
+		String filter = element.getSimpleName() + "Filter";
+
+		StringBuilder events = new StringBuilder();
+		StringBuilder listeners = new StringBuilder();
+		StringBuilder filters = new StringBuilder();
+
+		for(String[] kinds : signatures) {
+			Signature signature = new Signature(kinds, listener, filter);
+			boolean redirect = signature.objects && kinds.length < settings.maxArity();
+
+			events.append('\n').append(signature.apply(getTemplate(), event, redirect));
+			listeners.append("\tinterface ").append(signature.type).append(" { void execute(").append(signature.params).append("); }\n");
+			filters.append("\tinterface ").append(signature.type).append(" { boolean test(").append(signature.params).append("); }\n");
+		}
+
+		String header = "// generated by " + EventsProcessor.class.getSimpleName() + " from " + element.getQualifiedName() + ", do not edit\n"
+			+ (packageName.isEmpty() ? "" : "package " + packageName + ";\n") + "\n";
+
+		write(element, packageName, listener, header
+			+ "public interface " + listener + " {\n"
+			+ listeners
+			+ "}\n");
+
+		write(element, packageName, filter, header
+			+ "public interface " + filter + " {\n"
+			+ filters
+			+ "}\n");
+
+		write(element, packageName, event, header
+			+ "import java.util.BitSet;\n"
+			+ "import java.util.concurrent.CompletableFuture;\n"
+			+ "import java.util.concurrent.Executor;\n\n"
+			+ "import net.stephcraft.events.DeferredEventQueue;\n"
+			+ "import net.stephcraft.events.Event;\n"
+			+ "import net.stephcraft.events.Event.$;\n"
+			+ "import net.stephcraft.events.metrics.EventMetrics;\n"
+			+ "import net.stephcraft.events.Subscription;\n"
+			+ "import net.stephcraft.events.settings.EventBatchOrder;\n"
+			+ "import net.stephcraft.events.settings.EventFlag;\n"
+			+ "import net.stephcraft.events.settings.EventState;\n\n"
+			+ "public final class " + event + " {\n\n"
+			+ "\tprivate " + event + "() {}\n"
+			+ events
+			+ "}\n");
+	}
+
+	private static class Signature {
+		private final String name;
+		private final String type;
+		private final String declaration;
+		private final String diamond;
+		private final String listener;
+		private final String rawListener;
+		private final String filter;
+		private final String nextListener;
+		private final String nextFilter;
+		private final String generics;
+		private final String params;
+		private final String inputs;
+		private final String arrays;
+		private final String elements;
+		private final String posts;
+		private final String elementPosts;
+		private final String paramPosts;
+		private final String deferred;
+		private final boolean objects;
+
+		private Signature(String[] kinds, String listeners, String filters) {
+			List<String> generics = new ArrayList<>();
+			List<String> params = new ArrayList<>();
+			List<String> inputs = new ArrayList<>();
+			List<String> arrays = new ArrayList<>();
+			List<String> elements = new ArrayList<>();
+			List<String> deferred = new ArrayList<>();
+			StringBuilder posts = new StringBuilder();
+			StringBuilder elementPosts = new StringBuilder();
+			StringBuilder paramPosts = new StringBuilder();
+			StringBuilder name = new StringBuilder();
+			boolean objects = true;
+
+			for(int position = 0; position < kinds.length; position++) {
+				String letter = String.valueOf((char) ('A' + position));
+				String input = letter.toLowerCase();
+				String kind = kinds[position] == null ? letter : kinds[position];
+
+				if(kinds[position] == null) generics.add(letter);
+				else objects = false;
+
+				name.append(kinds[position] == null ? "Obj" : Character.toUpperCase(kind.charAt(0)) + kind.substring(1));
+				params.add(kind + " " + input);
+				inputs.add(input);
+				arrays.add(kind + "[] " + input);
+				elements.add(input + "[element]");
+				posts.append(".set(").append(position).append(", ").append(input).append(")");
+				elementPosts.append(".set(").append(position).append(", ").append(input).append("[element])");
+				paramPosts.append(".set(").append(position).append(", ").append(kinds[position] == null ? "" : "(" + kind + ") ").append("params[").append(position).append("])");
+				deferred.add(kinds[position] == null ? "slot.<" + letter + ">get(" + position + ")"
+					: "slot.get" + Character.toUpperCase(kind.charAt(0)) + kind.substring(1) + "(" + position + ")");
+			}
+
+			this.objects = objects;
+			this.name = (objects ? "P" : name.toString()) + kinds.length;
+			this.generics = String.join(",", generics);
+			this.declaration = generics.isEmpty() ? "" : "<" + this.generics + "> ";
+			this.type = this.name + (generics.isEmpty() ? "" : "<" + this.generics + ">");
+			this.diamond = generics.isEmpty() ? "" : "<>";
+			this.listener = listeners + "." + type;
+			this.rawListener = listeners + "." + this.name;
+			this.filter = filters + "." + type;
+
+			// types of the redirect target, one more leading parameter
+			String next = ".P" + (kinds.length + 1) + "<EE" + (generics.isEmpty() ? "" : ", " + this.generics) + ">";
+			this.nextListener = listeners + next;
+			this.nextFilter = filters + next;
+			this.params = String.join(", ", params);
+			this.inputs = String.join(", ", inputs);
+			this.arrays = String.join(", ", arrays);
+			this.elements = String.join(", ", elements);
+			this.posts = posts.toString();
+			this.elementPosts = elementPosts.toString();
+			this.paramPosts = paramPosts.toString();
+			this.deferred = String.join(", ", deferred);
+		}
+
+		private String apply(String template, String events, boolean redirect) {
+
+			// without parameters, drop the separators around the empty lists
+			if(inputs.isEmpty()) {
+				for(String list : new String[] { "%PARAMS%", "%INPUTS%", "%DEFERRED%" })
+					template = template.replace(", " + list, "").replace(list + ", ", "");
+			}
+
+			template = section(template, "parameters", !inputs.isEmpty());
+			template = section(template, "redirect", redirect);
+			template = section(template, "owner", redirect);
+
+			String next = events + ".P" + (inputs.isEmpty() ? 1 : inputs.split(", ").length + 1)
+				+ "<EE" + (generics.isEmpty() ? "" : ", " + generics) + ">";
+
+			// qualified with the event container, Event's own PN would shadow the simple name.
+			// Event has type parameters for 9 arguments only, every arity leaves them unused so redirects type check
+			return template
+				.replace("%EVENT%", events)
+				.replace("%SUPERTYPES%", "$,$,$,$,$,$,$,$,$")
+				.replace("%NAME%", name)
+				.replace("%TYPE%", type)
+				.replace("%DECLARATION%", declaration)
+				.replace("%DIAMOND%", diamond)
+				.replace("%LISTENER%", listener)
+				.replace("%RAWLISTENER%", rawListener)
+				.replace("%FILTER%", filter)
+				.replace("%NEXTLISTENER%", nextListener)
+				.replace("%NEXTFILTER%", nextFilter)
+				.replace("%NEXT%", next)
+				.replace("%PARAMS%", params)
+				.replace("%INPUTS%", inputs)
+				.replace("%ARRAYS%", arrays)
+				.replace("%ELEMENTS%", elements)
+				.replace("%POSTS%", posts)
+				.replace("%ELEMENTPOSTS%", elementPosts)
+				.replace("%PARAMPOSTS%", paramPosts)
+				.replace("%DEFERRED%", deferred);
+		}
+
+		private static String section(String template, String name, boolean keep) {
+			String start = "%[" + name + "]%\n";
+			String end = "%[/" + name + "]%\n";
+			int from = template.indexOf(start);
+			int to = template.indexOf(end);
+			if(from < 0 || to < 0) return template;
+
+			String content = keep ? template.substring(from + start.length(), to) : "";
+			return template.substring(0, from) + content + template.substring(to + end.length());
+		}
+	}
+
+	private List<? extends TypeMirror> getPrimitives(GenerateEvents settings) {
+		try {
+			settings.primitives();
+			throw new IllegalStateException("Class values are only readable as type mirrors at compile time");
+		}
+		catch(MirroredTypesException e) {
+			return e.getTypeMirrors();
+		}
+	}
+
+	private String getTemplate() throws IOException {
+		if(template != null) return template;
+
+		StringBuilder text = new StringBuilder();
+		try(InputStream inputStream = EventsProcessor.class.getResourceAsStream("event.template");
+			BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			for(String line; (line = reader.readLine()) != null;)
+				text.append(line).append('\n');
+		}
+
+		return template = text.toString();
+	}
+
+	private void write(Element element, String packageName, String name, String source) throws IOException {
+		String qualifiedName = packageName.isEmpty() ? name : packageName + "." + name;
+		try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, element).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
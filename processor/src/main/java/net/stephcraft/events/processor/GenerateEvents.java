@@ -0,0 +1,20 @@
+package net.stephcraft.events.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates <code>&lt;Type&gt;Event</code> and <code>&lt;Type&gt;Listener</code> next to the annotated type,
+ * holding events and listeners from <code>P0</code> to <code>P{maxArity}</code>.
+ * Each primitive also gets specialized variants mixing it with objects up to <code>primitiveArity</code>
+ * parameters, for instance <code>Int1</code>, <code>IntInt2</code> or <code>ObjInt2</code>.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateEvents {
+	int maxArity() default 9;
+	Class<?>[] primitives() default {};
+	int primitiveArity() default 2;
+}
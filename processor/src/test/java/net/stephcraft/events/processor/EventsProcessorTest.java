@@ -0,0 +1,124 @@
+package net.stephcraft.events.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.stephcraft.events.Event;
+
+/**
+ * Runs the processor over annotated sources, the generated events must compile against v2 and dispatch
+ */
+public class EventsProcessorTest {
+	
+	@TempDir
+	Path directory;
+	
+	@Test
+	public void generate() throws Exception {
+		final String objects = String.join(", ", Collections.nCopies(16, "Integer"));
+		final String letters = IntStream.range(0, 16).mapToObj((index) -> "p" + index).collect(Collectors.joining(", "));
+		final String values = IntStream.range(0, 16).mapToObj(String::valueOf).collect(Collectors.joining(", "));
+		
+		final DiagnosticCollector<JavaFileObject> diagnostics = compile(
+			"package demo;\n"
+			+ "import java.util.ArrayList;\n"
+			+ "import java.util.List;\n"
+			+ "import net.stephcraft.events.processor.GenerateEvents;\n"
+			+ "import net.stephcraft.events.settings.EventFlag;\n"
+			+ "@GenerateEvents(maxArity = 16, primitives = { int.class, long.class, double.class })\n"
+			+ "public class Game {\n"
+			+ "	public static List<Object> run() {\n"
+			+ "		List<Object> log = new ArrayList<>();\n"
+			+ "		GameEvent.P16<" + objects + "> widest = GameEvent.P16.create();\n"
+			+ "		widest.bind((" + letters + ") -> log.add(p0 + p15));\n"
+			+ "		widest.trigger(" + values + ");\n"
+			+ "		GameEvent.P15<" + objects.substring("Integer, ".length()) + "> narrower = GameEvent.P15.create();\n"
+			+ "		narrower.redirect(widest, -1);\n"
+			+ "		narrower.trigger(" + values.substring("0, ".length()) + ");\n"
+			+ "		GameEvent.Int1 damage = GameEvent.Int1.create(EventFlag.CANCELLABLE);\n"
+			+ "		damage.bind((amount) -> { if(amount < 0) damage.cancel(); }, 0);\n"
+			+ "		damage.bind((amount) -> log.add(amount), 1, true);\n"
+			+ "		damage.trigger(-1);\n"
+			+ "		log.add(damage.isCancelled());\n"
+			+ "		damage.trigger(2);\n"
+			+ "		GameEvent.LongDouble2 mixed = GameEvent.LongDouble2.create();\n"
+			+ "		mixed.bind((a, b) -> log.add(a + b));\n"
+			+ "		mixed.trigger(1L, 0.5);\n"
+			+ "		GameEvent.ObjInt2<String> partial = GameEvent.ObjInt2.create();\n"
+			+ "		partial.bind((a, b) -> log.add(a + b));\n"
+			+ "		partial.trigger(\"x\", 3);\n"
+			+ "		return log;\n"
+			+ "	}\n"
+			+ "}\n");
+		assertTrue(errors(diagnostics).isEmpty(), () -> errors(diagnostics).toString());
+		
+		try(URLClassLoader loader = new URLClassLoader(new URL[] { directory.resolve("classes").toUri().toURL() }, getClass().getClassLoader())) {
+			final Object log = loader.loadClass("demo.Game").getMethod("run").invoke(null);
+			assertEquals(Arrays.asList(15, 14, true, 2, 1.5, "x3"), log);
+		}
+	}
+	
+	@Test
+	public void invalid() throws Exception {
+		final DiagnosticCollector<JavaFileObject> diagnostics = compile(
+			"package demo;\n"
+			+ "import net.stephcraft.events.processor.GenerateEvents;\n"
+			+ "@GenerateEvents(maxArity = 27)\n"
+			+ "public class Game {}\n");
+		assertFalse(errors(diagnostics).isEmpty());
+	}
+	
+	/**
+	 * Compiles the source of <code>demo.Game</code> with the processor, against v2
+	 */
+	private DiagnosticCollector<JavaFileObject> compile(String source) throws IOException, URISyntaxException {
+		final Path sources = Files.createDirectories(directory.resolve("sources/demo"));
+		final Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.write(sources.resolve("Game.java"), source.getBytes(StandardCharsets.UTF_8));
+		
+		final String classpath = location(Event.class) + File.pathSeparator + location(EventsProcessor.class);
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try(StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			compiler.getTask(null, files, diagnostics,
+				List.of("-classpath", classpath, "-processor", EventsProcessor.class.getName(), "-d", classes.toString(), "-s", classes.toString()),
+				null, files.getJavaFileObjects(sources.resolve("Game.java").toFile())).call();
+		}
+		return diagnostics;
+	}
+	
+	private static List<Diagnostic<? extends JavaFileObject>> errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+		return diagnostics.getDiagnostics().stream()
+			.filter((diagnostic) -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+			.collect(Collectors.toList());
+	}
+	
+	private static String location(Class<?> type) throws URISyntaxException {
+		return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+	}
+}
@@ -1,26 +1,53 @@
 package net.stephcraft.events;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Event {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    
+    // resolved listener methods per class, keyed by name and parameter types
+    private static final ClassValue<Map<String, MethodHandle>> INVOKERS = new ClassValue<>() {
+        
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    private static final EventListener[] EMPTY = new EventListener[0];
+    
     private Class<?>[] args;
-    private ArrayList<EventListener> eventListeners;
+    private String signature;
+    private LinkedHashSet<EventListener> eventListeners;
     
-    private class EventListener {
-        public Method method;
-        public Object listener;
+    // trigger order snapshot of eventListeners, rebuilt by the first trigger after a bind/unbind
+    private EventListener[] dispatch;
+    
+    private static class EventListener {
+        public final Object listener;
+        public final String name;
+        public final MethodHandle invoker;
+        private final int hash;
         
-        public EventListener(Object listener, Method method) {
+        public EventListener(Object listener, String name, MethodHandle invoker) {
             this.listener = listener;
-            this.method = method;
+            this.name = name;
+            this.invoker = invoker;
+            this.hash = 31 * listener.hashCode() + name.hashCode();
         }
         
         public void invoke(Object[] arguments) {
             try {
-                method.invoke(listener, arguments);
+                invoker.invokeExact(listener, arguments);
             }
-            catch(Exception e) {
+            catch(Throwable e) {
                 e.printStackTrace();
             }
         }
@@ -29,7 +56,7 @@ public class Event {
         public boolean equals(Object obj) {
             if(obj instanceof EventListener) {
                 EventListener other = (EventListener)obj;
-                return other.listener.equals(listener) && other.method.equals(method);
+                return other.hash == hash && other.listener.equals(listener) && other.name.equals(name);
             }
             
             return false;
@@ -37,39 +64,34 @@ public class Event {
         
         @Override
         public int hashCode() {
-            int className = method.getDeclaringClass().getName().hashCode();
-            int functionName = method.getName().hashCode();
-            int parameters = method.getParameterTypes().hashCode();
-            
-            return className ^ functionName ^ parameters;
+            return hash;
         }
     }
     
     public Event(Class<?>... args) {
         this.args = args;
-        this.eventListeners = new ArrayList<EventListener>();
+        this.signature = Arrays.toString(args);
+        this.eventListeners = new LinkedHashSet<EventListener>();
+        this.dispatch = EMPTY;
     }
     
     public void trigger(Object... arguments) {
-        for(EventListener eventListener : eventListeners) {
-            try {
-                eventListener.invoke(arguments);
-            }
-            catch(Exception e) {
-                e.printStackTrace();
-            }
+        EventListener[] dispatch = this.dispatch;
+        if(dispatch == null) {
+            dispatch = this.dispatch = eventListeners.toArray(EMPTY);
+        }
+        
+        for(EventListener eventListener : dispatch) {
+            eventListener.invoke(arguments);
         }
     }
     
     public void bind(Object listener, String name) {
-        Class<?> c = listener.getClass();
-        
         try {
-            Method method = c.getMethod(name, args);
-            EventListener eventListener = new EventListener(listener, method);
+            EventListener eventListener = new EventListener(listener, name, resolve(listener.getClass(), name));
             
-            if(!eventListeners.contains(eventListener)) {
-                eventListeners.add(new EventListener(listener, method));
+            if(eventListeners.add(eventListener)) {
+                dispatch = null;
             }
             else {
                 System.err.println("<Error> could not bind event listener \""+name+"\". It is already bound!");
@@ -81,14 +103,11 @@ public class Event {
     }
     
     public void unbind(Object listener, String name) {
-         Class<?> c = listener.getClass();
-         
          try {
-             Method method = c.getMethod(name, args);
-             EventListener eventListener = new EventListener(listener, method);
+             EventListener eventListener = new EventListener(listener, name, resolve(listener.getClass(), name));
              
-             if(eventListeners.contains(eventListener)) {
-                 eventListeners.remove(eventListener);
+             if(eventListeners.remove(eventListener)) {
+                 dispatch = null;
              }
              else {
                  System.err.println("<Error> could not unbind event listener \""+name+"\". Make sure the listener is already bound");
@@ -100,11 +119,8 @@ public class Event {
     }
     
     public boolean bound(Object listener, String name) {
-        Class<?> c = listener.getClass();
-         
          try {
-             Method method = c.getMethod(name, args);
-             EventListener eventListener = new EventListener(listener, method);
+             EventListener eventListener = new EventListener(listener, name, resolve(listener.getClass(), name));
              
              return eventListeners.contains(eventListener);
          }
@@ -114,4 +130,24 @@ public class Event {
         
         return false;
     }
+    
+    /**
+     * Finds the public method name(args) of the class once, then reuses its
+     * handle adapted to (Object listener, Object[] arguments)void
+     */
+    private MethodHandle resolve(Class<?> c, String name) throws NoSuchMethodException, IllegalAccessException {
+        Map<String, MethodHandle> invokers = INVOKERS.get(c);
+        String key = name + signature;
+        MethodHandle invoker = invokers.get(key);
+        
+        if(invoker == null) {
+            Method method = c.getMethod(name, args);
+            invoker = MethodHandles.lookup().unreflect(method)
+                .asSpreader(Object[].class, args.length)
+                .asType(INVOKER_TYPE);
+            invokers.put(key, invoker);
+        }
+        
+        return invoker;
+    }
 }
@@ -0,0 +1 @@
+interface PI<GENERICS> { boolean test(PARAMS); }
\ No newline at end of file
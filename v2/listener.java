@@ -1,8 +1 @@
-interface PI<GENERICS> extends Listener {
-	
-	public default int count() {
-		return INDEX;
-	}
-	
-	public void execute(PARAMS);
-}
\ No newline at end of file
+interface PI<GENERICS> { void execute(PARAMS); }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package net.stephcraft.events;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executor of asynchronous triggers, replaced by virtual threads on Java 21+ (multi-release jar)
+ */
+final class AsyncDispatch {
+	
+	private AsyncDispatch() {}
+	
+	static Executor executor() {
+		return ForkJoinPool.commonPool();
+	}
+}
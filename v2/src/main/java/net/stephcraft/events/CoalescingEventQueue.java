@@ -0,0 +1,236 @@
+package net.stephcraft.events;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import net.stephcraft.events.settings.EventCoalescing;
+import net.stephcraft.events.settings.EventDrainOrder;
+
+/**
+ * DeferredEventQueue where the posts of a coalesced event replace the pending one with the same key
+ * (the entity of a movement event...), only the latest dispatches when the queue gets drained.
+ * Coalesced events dispatch after the other posts of the drain, in the order their keys were first posted
+ * <pre>
+ * CoalescingEventQueue queue = new CoalescingEventQueue();
+ * queue.coalesce(onMove, (slot) -&gt; slot.get(0));
+ * onMove.post(entity, x, y);
+ * queue.drain();
+ * </pre>
+ */
+public class CoalescingEventQueue extends DeferredEventQueue {
+	
+	private static final long NEVER = Long.MIN_VALUE;
+	
+	private static final class Pending {
+		private final Object key;
+		
+		// latest post, null once dispatched
+		private Slot slot;
+		private long posted;
+		private long dispatched = NEVER;
+		
+		private Pending(Object key) {
+			this.key = key;
+		}
+	}
+	
+	private static final class Coalescing {
+		private final Function<Slot, Object> key;
+		private final EventCoalescing policy;
+		private final long window;
+		
+		private final Map<Object, Pending> pending = new HashMap<>();
+		
+		// in the order keys were first posted
+		private final List<Pending> order = new ArrayList<>();
+		
+		private Coalescing(Function<Slot, Object> key, EventCoalescing policy, long window) {
+			this.key = key;
+			this.policy = policy;
+			this.window = window;
+		}
+		
+		private boolean due(Pending pending, long now) {
+			switch(policy) {
+				case THROTTLE: return pending.dispatched == NEVER || now - pending.dispatched >= window;
+				case DEBOUNCE: return now - pending.posted >= window;
+				default: return true;
+			}
+		}
+		
+		/**
+		 * Nothing left to dispatch and no window to remember, the key is dropped until posted again
+		 */
+		private boolean idle(Pending pending, long now) {
+			return pending.slot == null && (policy != EventCoalescing.THROTTLE || now - pending.dispatched >= window);
+		}
+	}
+	
+	private final Map<Event<?,?,?,?,?,?,?,?,?,?>, Coalescing> coalescings;
+	private final List<Coalescing> order;
+	
+	// slots of the pending posts, recycled once dispatched
+	private final ArrayDeque<Slot> free;
+	
+	// written by the post being committed, swapped with the pending slot of its key
+	private Slot scratch;
+	private Coalescing claimed;
+	private long coalesced;
+	
+	public CoalescingEventQueue(EventDrainOrder order, int capacity) {
+		super(order, capacity);
+		this.coalescings = new IdentityHashMap<>();
+		this.order = new ArrayList<>();
+		this.free = new ArrayDeque<>();
+		this.scratch = new Slot();
+	}
+	
+	public CoalescingEventQueue(EventDrainOrder order) {
+		this(order, CAPACITY);
+	}
+	
+	public CoalescingEventQueue() {
+		this(EventDrainOrder.FIFO);
+	}
+	
+	/**
+	 * Posts of the event into this queue replace the pending one with the same key, dispatched by policy.
+	 * Sets the queue of the event
+	 * @param window nanoseconds, for THROTTLE and DEBOUNCE
+	 */
+	public void coalesce(Event<?,?,?,?,?,?,?,?,?,?> event, Function<Slot, Object> key, EventCoalescing policy, long window) {
+		failsafeDraining();
+		
+		final Coalescing coalescing = new Coalescing(key, policy, window);
+		final Coalescing previous = coalescings.put(event, coalescing);
+		if(previous != null) order.remove(previous);
+		order.add(coalescing);
+		event.setQueue(this);
+	}
+	
+	public void coalesce(Event<?,?,?,?,?,?,?,?,?,?> event, Function<Slot, Object> key) {
+		coalesce(event, key, EventCoalescing.LATEST, 0);
+	}
+	
+	@Override
+	Slot claim(Event<?,?,?,?,?,?,?,?,?,?> event, int priority) {
+		claimed = coalescings.get(event);
+		if(claimed == null) return super.claim(event, priority);
+		
+		scratch.event = event;
+		return scratch;
+	}
+	
+	@Override
+	void commit(Slot slot) {
+		final Coalescing coalescing = claimed;
+		if(coalescing == null) return;
+		claimed = null;
+		
+		final Object key = coalescing.key.apply(slot);
+		Pending pending = coalescing.pending.get(key);
+		if(pending == null) {
+			pending = new Pending(key);
+			coalescing.pending.put(key, pending);
+			coalescing.order.add(pending);
+		}
+		
+		// the written slot becomes the pending one, the replaced one the next scratch
+		final Slot replaced = pending.slot;
+		pending.slot = slot;
+		if(replaced != null) {
+			replaced.clear();
+			scratch = replaced;
+			coalesced++;
+		}
+		else scratch = free.isEmpty() ? new Slot() : free.pop();
+		
+		if(coalescing.policy == EventCoalescing.DEBOUNCE) pending.posted = System.nanoTime();
+	}
+	
+	@Override
+	int dispatch(long start, long budgetNanos) {
+		int dispatched = super.dispatch(start, budgetNanos);
+		final long now = System.nanoTime();
+		
+		for(int index = 0; index < order.size(); index++) {
+			final Coalescing coalescing = order.get(index);
+			final List<Pending> pendings = coalescing.order;
+			
+			// keys first posted while draining wait for the next drain
+			final int count = pendings.size();
+			int kept = 0;
+			int position = 0;
+			for(; position < count; position++) {
+				final Pending pending = pendings.get(position);
+				final boolean due = pending.slot != null && coalescing.due(pending, now);
+				if(due) {
+					if(spent(start, budgetNanos, dispatched)) break;
+					
+					final Slot slot = pending.slot;
+					pending.slot = null;
+					pending.dispatched = now;
+					try {
+						trigger(slot);
+					}
+					finally {
+						slot.clear();
+						free.push(slot);
+					}
+					dispatched++;
+				}
+				
+				// kept a drain longer, keys posted every tick keep their entry
+				if(!due && coalescing.idle(pending, now)) {
+					coalescing.pending.remove(pending.key);
+					continue;
+				}
+				pendings.set(kept++, pending);
+			}
+			
+			for(; position < pendings.size(); position++)
+				pendings.set(kept++, pendings.get(position));
+			while(pendings.size() > kept)
+				pendings.remove(pendings.size() - 1);
+		}
+		return dispatched;
+	}
+	
+	@Override
+	public int size() {
+		int size = super.size();
+		for(Coalescing coalescing : order) {
+			for(Pending pending : coalescing.order) {
+				if(pending.slot != null) size++;
+			}
+		}
+		return size;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		
+		for(Coalescing coalescing : order) {
+			for(Pending pending : coalescing.order) {
+				if(pending.slot == null) continue;
+				pending.slot.clear();
+				free.push(pending.slot);
+			}
+			coalescing.pending.clear();
+			coalescing.order.clear();
+		}
+	}
+	
+	/**
+	 * Number of posts replaced by a later one of the same key, never dispatched
+	 */
+	public long coalesced() {
+		return coalesced;
+	}
+}
@@ -0,0 +1,307 @@
+package net.stephcraft.events;
+
+import java.util.Arrays;
+
+import net.stephcraft.events.settings.EventDrainOrder;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Events posted with post(...) instead of trigger(...), dispatched once the queue gets drained at a controlled point
+ * (the end of a tick...) rather than nested in the dispatch posting them. Slots and their argument arrays are
+ * preallocated and reused, posting allocates nothing. Not thread safe, post and drain from the same thread
+ * <pre>
+ * DeferredEventQueue queue = new DeferredEventQueue(EventDrainOrder.FIFO);
+ * onDamage.setQueue(queue);
+ * onDamage.post(entity, 5);
+ * queue.drain(TimeUnit.MILLISECONDS.toNanos(2));
+ * </pre>
+ */
+public class DeferredEventQueue {
+	
+	static final int CAPACITY = 64;
+	private static final int ARITY = 9;
+	
+	/**
+	 * Arguments of a post by parameter index, objects as is and primitives as their raw bits
+	 */
+	public static final class Slot {
+		Event<?,?,?,?,?,?,?,?,?,?> event;
+		private Object[] objects = new Object[ARITY];
+		private long[] primitives = new long[ARITY];
+		
+		// objects to clear once dispatched
+		private int references;
+		
+		Slot() {}
+		
+		public Slot set(int index, Object value) {
+			if(index >= objects.length) objects = Arrays.copyOf(objects, index + 1);
+			objects[index] = value;
+			if(index >= references) references = index + 1;
+			return this;
+		}
+		
+		public Slot set(int index, long value) {
+			if(index >= primitives.length) primitives = Arrays.copyOf(primitives, index + 1);
+			primitives[index] = value;
+			return this;
+		}
+		
+		public Slot set(int index, int value) {
+			return set(index, (long) value);
+		}
+		
+		public Slot set(int index, double value) {
+			return set(index, Double.doubleToRawLongBits(value));
+		}
+		
+		public Slot set(int index, boolean value) {
+			return set(index, value ? 1L : 0L);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T get(int index) {
+			return (T) objects[index];
+		}
+		
+		public long getLong(int index) {
+			return primitives[index];
+		}
+		
+		public int getInt(int index) {
+			return (int) primitives[index];
+		}
+		
+		public short getShort(int index) {
+			return (short) primitives[index];
+		}
+		
+		public byte getByte(int index) {
+			return (byte) primitives[index];
+		}
+		
+		public char getChar(int index) {
+			return (char) primitives[index];
+		}
+		
+		public double getDouble(int index) {
+			return Double.longBitsToDouble(primitives[index]);
+		}
+		
+		public float getFloat(int index) {
+			return (float) getDouble(index);
+		}
+		
+		public boolean getBoolean(int index) {
+			return primitives[index] != 0;
+		}
+		
+		void clear() {
+			event = null;
+			Arrays.fill(objects, 0, references, null);
+			references = 0;
+		}
+	}
+	
+	/**
+	 * Growable circular buffer of the slots posted with one priority
+	 */
+	private static final class Ring {
+		private final int priority;
+		private Slot[] slots;
+		private int head;
+		private int size;
+		
+		// slots present when the drain started, the ones posted while draining wait for the next drain
+		private int pending;
+		
+		private Ring(int priority, int capacity) {
+			this.priority = priority;
+			this.slots = new Slot[capacity];
+			for(int index = 0; index < capacity; index++)
+				slots[index] = new Slot();
+		}
+		
+		private Slot claim() {
+			if(size == slots.length) grow();
+			return slots[(head + size++) & (slots.length - 1)];
+		}
+		
+		private void grow() {
+			final Slot[] grown = new Slot[slots.length * 2];
+			for(int index = 0; index < size; index++)
+				grown[index] = slots[(head + index) & (slots.length - 1)];
+			for(int index = size; index < grown.length; index++)
+				grown[index] = new Slot();
+			
+			slots = grown;
+			head = 0;
+		}
+		
+		private Slot peek() {
+			return slots[head];
+		}
+		
+		// after the dispatch, listeners may post into the ring while the head slot is dispatched
+		private void release() {
+			slots[head].clear();
+			head = (head + 1) & (slots.length - 1);
+			size--;
+		}
+	}
+	
+	private final EventDrainOrder order;
+	private final int capacity;
+	
+	// sorted by priority, a single one in FIFO order
+	private Ring[] rings;
+	private boolean draining;
+	
+	public DeferredEventQueue(EventDrainOrder order, int capacity) {
+		if(capacity < 1 || Integer.bitCount(capacity) != 1)
+			throw new IllegalArgumentException("Queue capacity must be a power of two");
+		
+		this.order = order;
+		this.capacity = capacity;
+		this.rings = order == EventDrainOrder.FIFO ? new Ring[] { new Ring(0, capacity) } : new Ring[0];
+	}
+	
+	public DeferredEventQueue(EventDrainOrder order) {
+		this(order, CAPACITY);
+	}
+	
+	public DeferredEventQueue() {
+		this(EventDrainOrder.FIFO, CAPACITY);
+	}
+	
+	/**
+	 * The slot to write the arguments of a post into, called by the post(...) methods of the events
+	 */
+	Slot claim(Event<?,?,?,?,?,?,?,?,?,?> event, int priority) {
+		final Slot slot = ring(priority).claim();
+		slot.event = event;
+		return slot;
+	}
+	
+	/**
+	 * The slot once its arguments got written
+	 */
+	void commit(Slot slot) {}
+	
+	private Ring ring(int priority) {
+		if(order == EventDrainOrder.FIFO) return rings[0];
+		
+		int index = 0;
+		while(index < rings.length && rings[index].priority < priority) index++;
+		if(index < rings.length && rings[index].priority == priority) return rings[index];
+		
+		// first post with this priority
+		final Ring[] grown = new Ring[rings.length + 1];
+		System.arraycopy(rings, 0, grown, 0, index);
+		System.arraycopy(rings, index, grown, index + 1, rings.length - index);
+		grown[index] = new Ring(priority, capacity);
+		rings = grown;
+		return grown[index];
+	}
+	
+	// --- draining ---
+	
+	/**
+	 * Triggers the posted events until the time budget is spent, the remaining ones are carried over to the next drain.
+	 * At least one event is dispatched per drain, events posted while draining wait for the next one
+	 * @return the number of events dispatched
+	 */
+	public int drain(long budgetNanos) {
+		if(draining)
+			throw new UnsupportedOperationException("Queue cannot be drained while being drained");
+		
+		draining = true;
+		try {
+			// unlimited drains never read the clock
+			return dispatch(budgetNanos == Long.MAX_VALUE ? 0 : System.nanoTime(), budgetNanos);
+		}
+		finally {
+			draining = false;
+		}
+	}
+	
+	/**
+	 * Triggers the events posted before the drain until the budget, counted from start, is spent
+	 */
+	int dispatch(long start, long budgetNanos) {
+		final Ring[] rings = this.rings;
+		for(Ring ring : rings)
+			ring.pending = ring.size;
+		
+		int dispatched = 0;
+		for(Ring ring : rings) {
+			for(int pending = ring.pending; pending > 0; pending--) {
+				if(spent(start, budgetNanos, dispatched)) return dispatched;
+				
+				try {
+					trigger(ring.peek());
+				}
+				finally {
+					ring.release();
+				}
+				dispatched++;
+			}
+		}
+		return dispatched;
+	}
+	
+	static boolean spent(long start, long budgetNanos, int dispatched) {
+		return budgetNanos != Long.MAX_VALUE && dispatched > 0 && System.nanoTime() - start >= budgetNanos;
+	}
+	
+	static void trigger(Slot slot) {
+		try {
+			slot.event.dispatch(EventState.DEFAULT, slot);
+		}
+		catch(Throwable e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Triggers every posted event
+	 */
+	public int drain() {
+		return drain(Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Number of events posted but not yet dispatched
+	 */
+	public int size() {
+		int size = 0;
+		for(Ring ring : rings)
+			size += ring.size;
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Drops every posted event without dispatching it
+	 */
+	public void clear() {
+		failsafeDraining();
+		
+		for(Ring ring : rings) {
+			while(ring.size > 0)
+				ring.release();
+		}
+	}
+	
+	void failsafeDraining() {
+		if(draining)
+			throw new UnsupportedOperationException("Queue cannot be cleared while being drained");
+	}
+	
+	public EventDrainOrder getOrder() {
+		return order;
+	}
+}
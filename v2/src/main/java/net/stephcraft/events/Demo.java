@@ -1,7 +1,7 @@
 package net.stephcraft.events;
 
 import net.stephcraft.events.settings.EventFlag;
-import net.stephcraft.events.variable.Variable;
+import net.stephcraft.events.variable.IntVariable;
 
 public class Demo {
 	
@@ -14,10 +14,13 @@ public class Demo {
 	protected static class Player {
 		
 		public final Event.P0 onJump;
-		public final Event.P1<Variable<Integer>> onCollect;
+		public final Event.P1<IntVariable> onCollect;
 		
 		int x, y, points;
 		
+		// one holder reused by every collect()
+		private final IntVariable collected = IntVariable.of(0);
+		
 		public Player() {
 			onJump = Event.P0.create();
 			onCollect = Event.P1.create(EventFlag.CANCELLABLE);
@@ -31,14 +34,14 @@ public class Demo {
 		}
 		
 		public void collect(int points) {
-			Variable<Integer> variable = Variable.of(points);
+			collected.reset(points);
 			
 			// event
-			onCollect.trigger(variable);
+			onCollect.trigger(collected);
 			
-			// check if event was cancelled, if not continue the process
-			if(!onCollect.isCancelled() && !variable.isNull())
-				this.points += points;
+			// check if event was cancelled, if not continue the process with the modified points
+			if(!onCollect.isCancelled())
+				this.points += collected.get();
 		}
 	}
 	
@@ -46,8 +49,8 @@ public class Demo {
 	protected static class World {
 		
 		public final Listener.P0 onPlayerJump = this::onPlayerJump;
-		public final Listener.P1<Variable<Integer>> onPlayerCollect = this::onPlayerCollect;
-		public final Listener.P1<Variable<Integer>> onPlayerCollected = this::onPlayerCollected;
+		public final Listener.P1<IntVariable> onPlayerCollect = this::onPlayerCollect;
+		public final Listener.P1<IntVariable> onPlayerCollected = this::onPlayerCollected;
 		
 		Player player;
 		
@@ -91,7 +94,7 @@ public class Demo {
 		}
 		
 		// apply no points and double points modifiers to points collected by player
-		public void onPlayerCollect(Variable<Integer> points) {
+		public void onPlayerCollect(IntVariable points) {
 			if(noPoints)
 				player.onCollect.cancel();
 			else
@@ -105,7 +108,7 @@ public class Demo {
 		// has a higher priority so it is executed last showing the final
 		// points collected. This will not execute if ignoreCancelled is
 		// set to true during binding.
-		public void onPlayerCollected(Variable<Integer> points) {
+		public void onPlayerCollected(IntVariable points) {
 			System.out.println("Player collected " + points.get() + " points!");
 		}
 		
@@ -115,6 +118,7 @@ public class Demo {
 			player.onJump.unbind(this::onPlayerJump);
 			
 			// that's why we kept a final reference Listener for each
+			// (or keep the Subscription returned by bind and cancel it, no listener reference needed)
 			player.onJump.unbind(onPlayerJump);
 			player.onCollect.unbind(onPlayerCollect);
 			
@@ -122,6 +126,10 @@ public class Demo {
 			// this can cause memory leaks if not used properly
 			// in uncontrolled scenarios, this method can be used as a failsafe when you are
 			// done with an object.
+			// binding with bindWeak(onPlayerJump) instead ties the listener to this object:
+			// it gets unbound once this object is garbage collected
+			// (bindWeak(this::onPlayerJump) would not, nothing else holds that reference,
+			// bindWeak(this, World::onPlayerJump) does without the field)
 			Event.flush(this);
 		}
 	}
@@ -0,0 +1,323 @@
+package net.stephcraft.events;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the dispatchers of COMPILED events: a hidden class implementing the listener type
+ * which calls every listener from its own call site, in priority order, so each one stays monomorphic.
+ * Hidden classes need Java 15+, compile returns null before
+ */
+final class DispatchCompiler {
+
+	private static final String NAME = "net/stephcraft/events/CompiledDispatcher";
+	private static final String EVENT = "net/stephcraft/events/Event";
+
+	// (Lookup, byte[])Lookup, Lookup.defineHiddenClass(bytes, true), null before Java 15
+	private static final MethodHandle DEFINE_HIDDEN = defineHidden();
+
+	private DispatchCompiler() {}
+
+	private static MethodHandle defineHidden() {
+		try {
+			Class<?> options = Array.newInstance(Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption"), 0).getClass();
+			MethodHandle define = MethodHandles.publicLookup().findVirtual(Lookup.class, "defineHiddenClass",
+				MethodType.methodType(Lookup.class, byte[].class, boolean.class, options));
+			return MethodHandles.insertArguments(define, 2, true, Array.newInstance(options.getComponentType(), 0));
+		}
+		catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	static boolean isSupported() {
+		return DEFINE_HIDDEN != null;
+	}
+
+	/**
+	 * An instance of the listener type calling the listeners one after another,
+	 * skipping the ignoreCancelled ones once the event got cancelled
+	 */
+	static Object compile(Class<?> type, Object[] listeners, boolean[] ignoreCancelled, Event<?,?,?,?,?,?,?,?,?,?> event) throws Throwable {
+		if(DEFINE_HIDDEN == null) return null;
+
+		Method functional = null;
+		for(Method method : type.getMethods()) {
+			if(!Modifier.isAbstract(method.getModifiers())) continue;
+			if(functional != null) throw new IllegalArgumentException(type.getName() + " is not a functional interface");
+			functional = method;
+		}
+		if(functional == null) throw new IllegalArgumentException(type.getName() + " is not a functional interface");
+
+		byte[] bytes = write(type, functional, ignoreCancelled);
+		Lookup lookup = (Lookup)DEFINE_HIDDEN.invokeExact(MethodHandles.lookup(), bytes);
+		MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class, Event.class));
+		return constructor.invoke(listeners, event);
+	}
+
+	// --- class file ---
+
+	private static byte[] write(Class<?> type, Method functional, boolean[] ignoreCancelled) throws IOException {
+		ConstantPool pool = new ConstantPool();
+		String listener = type.getName().replace('.', '/');
+		String descriptor = MethodType.methodType(functional.getReturnType(), functional.getParameterTypes()).toMethodDescriptorString();
+		int count = ignoreCancelled.length;
+
+		int thisClass = pool.type(NAME);
+		int superClass = pool.type("java/lang/Object");
+		int listenerClass = pool.type(listener);
+		int[] fields = new int[count];
+		int[] fieldNames = new int[count];
+		for(int index = 0; index < count; index++) {
+			fields[index] = pool.field(NAME, "l" + index, "L" + listener + ";");
+			fieldNames[index] = pool.utf8("l" + index);
+		}
+		int eventField = pool.field(NAME, "event", "L" + EVENT + ";");
+		int objectInit = pool.method(false, "java/lang/Object", "<init>", "()V");
+		int cancelled = pool.method(false, EVENT, "cancelled", "()Z");
+		int execute = pool.method(true, listener, functional.getName(), descriptor);
+
+		// constructor(Object[] listeners, Event event)
+		Code init = new Code();
+		init.op(0x2A).op(0xB7).u2(objectInit);
+		for(int index = 0; index < count; index++) {
+			init.op(0x2A).op(0x2B).op(0x10).op(index).op(0x32);
+			init.op(0xC0).u2(listenerClass).op(0xB5).u2(fields[index]);
+		}
+		init.op(0x2A).op(0x2C).op(0xB5).u2(eventField).op(0xB1);
+
+		// execute(params), listener after listener
+		Class<?>[] parameters = functional.getParameterTypes();
+		int slots = 1;
+		for(Class<?> parameter : parameters) slots += parameter == long.class || parameter == double.class ? 2 : 1;
+
+		Code dispatch = new Code();
+		List<Integer> frames = new ArrayList<>();
+		for(int index = 0; index < count; index++) {
+			int branch = -1;
+			if(ignoreCancelled[index]) {
+				dispatch.op(0x2A).op(0xB4).u2(eventField).op(0xB6).u2(cancelled);
+				branch = dispatch.size();
+				dispatch.op(0x9A).u2(0);
+			}
+
+			dispatch.op(0x2A).op(0xB4).u2(fields[index]);
+			for(int parameter = 0, slot = 1; parameter < parameters.length; parameter++) {
+				Class<?> kind = parameters[parameter];
+				dispatch.op(load(kind)).op(slot);
+				slot += kind == long.class || kind == double.class ? 2 : 1;
+			}
+			dispatch.op(0xB9).u2(execute).op(slots).op(0);
+
+			if(branch != -1) {
+				dispatch.patch(branch + 1, dispatch.size() - branch);
+				frames.add(dispatch.size());
+			}
+		}
+		dispatch.op(0xB1);
+
+		int code = pool.utf8("Code");
+		int stackMapTable = pool.utf8("StackMapTable");
+		int initName = pool.utf8("<init>");
+		int initDescriptor = pool.utf8("([Ljava/lang/Object;L" + EVENT + ";)V");
+		int executeName = pool.utf8(functional.getName());
+		int executeDescriptor = pool.utf8(descriptor);
+		int listenerDescriptor = pool.utf8("L" + listener + ";");
+		int eventName = pool.utf8("event");
+		int eventDescriptor = pool.utf8("L" + EVENT + ";");
+
+		// every constant is pooled by now, the pool is written first
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0xCAFEBABE);
+		out.writeShort(0);
+		out.writeShort(55);
+		pool.write(out);
+		out.writeShort(0x0030); // final super
+		out.writeShort(thisClass);
+		out.writeShort(superClass);
+		out.writeShort(1);
+		out.writeShort(listenerClass);
+
+		// fields, private final
+		out.writeShort(count + 1);
+		for(int index = 0; index < count; index++) {
+			out.writeShort(0x0012);
+			out.writeShort(fieldNames[index]);
+			out.writeShort(listenerDescriptor);
+			out.writeShort(0);
+		}
+		out.writeShort(0x0012);
+		out.writeShort(eventName);
+		out.writeShort(eventDescriptor);
+		out.writeShort(0);
+
+		// methods
+		out.writeShort(2);
+		out.writeShort(0x0001);
+		out.writeShort(initName);
+		out.writeShort(initDescriptor);
+		out.writeShort(1);
+		init.write(out, code, 4, 3, -1, null);
+
+		out.writeShort(0x0001);
+		out.writeShort(executeName);
+		out.writeShort(executeDescriptor);
+		out.writeShort(1);
+		dispatch.write(out, code, slots, slots, stackMapTable, frames);
+
+		// no class attributes
+		out.writeShort(0);
+		return bytes.toByteArray();
+	}
+
+	private static int load(Class<?> kind) {
+		if(!kind.isPrimitive()) return 0x19; // aload
+		if(kind == long.class) return 0x16; // lload
+		if(kind == float.class) return 0x17; // fload
+		if(kind == double.class) return 0x18; // dload
+		return 0x15; // iload
+	}
+
+	private static class Code {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		private Code op(int value) {
+			bytes.write(value);
+			return this;
+		}
+
+		private Code u2(int value) {
+			bytes.write(value >>> 8);
+			bytes.write(value);
+			return this;
+		}
+
+		private int size() {
+			return bytes.size();
+		}
+
+		private void patch(int offset, int value) {
+			byte[] code = bytes.toByteArray();
+			code[offset] = (byte)(value >>> 8);
+			code[offset + 1] = (byte)value;
+			bytes.reset();
+			bytes.write(code, 0, code.length);
+		}
+
+		/**
+		 * Code attribute, frames are the branch targets, all with the method's initial locals and an empty stack
+		 */
+		private void write(DataOutputStream out, int name, int maxStack, int maxLocals, int stackMapTable, List<Integer> frames) throws IOException {
+			byte[] code = bytes.toByteArray();
+
+			ByteArrayOutputStream table = new ByteArrayOutputStream();
+			DataOutputStream entries = new DataOutputStream(table);
+			int previous = -1;
+			if(frames != null) {
+				for(int offset : frames) {
+					int delta = offset - previous - 1;
+					if(delta < 64) entries.writeByte(delta); // same_frame
+					else {
+						entries.writeByte(251); // same_frame_extended
+						entries.writeShort(delta);
+					}
+					previous = offset;
+				}
+			}
+			boolean hasFrames = frames != null && !frames.isEmpty();
+
+			out.writeShort(name);
+			out.writeInt(12 + code.length + (hasFrames ? 8 + table.size() : 0));
+			out.writeShort(maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(code.length);
+			out.write(code);
+			out.writeShort(0);
+			out.writeShort(hasFrames ? 1 : 0);
+			if(hasFrames) {
+				out.writeShort(stackMapTable);
+				out.writeInt(2 + table.size());
+				out.writeShort(frames.size());
+				out.write(table.toByteArray());
+			}
+		}
+	}
+
+	private static class ConstantPool {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private final DataOutputStream out = new DataOutputStream(bytes);
+		private final Map<String, Integer> entries = new HashMap<>();
+		private int count = 1;
+
+		private int utf8(String value) throws IOException {
+			Integer index = entries.get("U" + value);
+			if(index != null) return index;
+			out.writeByte(1);
+			out.writeUTF(value);
+			return add("U" + value);
+		}
+
+		private int type(String name) throws IOException {
+			Integer index = entries.get("C" + name);
+			if(index != null) return index;
+			int utf8 = utf8(name);
+			out.writeByte(7);
+			out.writeShort(utf8);
+			return add("C" + name);
+		}
+
+		private int nameAndType(String name, String descriptor) throws IOException {
+			Integer index = entries.get("N" + name + ":" + descriptor);
+			if(index != null) return index;
+			int nameIndex = utf8(name);
+			int descriptorIndex = utf8(descriptor);
+			out.writeByte(12);
+			out.writeShort(nameIndex);
+			out.writeShort(descriptorIndex);
+			return add("N" + name + ":" + descriptor);
+		}
+
+		private int field(String owner, String name, String descriptor) throws IOException {
+			return member(9, owner, name, descriptor);
+		}
+
+		private int method(boolean isInterface, String owner, String name, String descriptor) throws IOException {
+			return member(isInterface ? 11 : 10, owner, name, descriptor);
+		}
+
+		private int member(int tag, String owner, String name, String descriptor) throws IOException {
+			String key = tag + owner + "." + name + ":" + descriptor;
+			Integer index = entries.get(key);
+			if(index != null) return index;
+			int ownerIndex = type(owner);
+			int nameAndType = nameAndType(name, descriptor);
+			out.writeByte(tag);
+			out.writeShort(ownerIndex);
+			out.writeShort(nameAndType);
+			return add(key);
+		}
+
+		private int add(String key) {
+			entries.put(key, count);
+			return count++;
+		}
+
+		private void write(DataOutputStream stream) throws IOException {
+			stream.writeShort(count);
+			stream.write(bytes.toByteArray());
+		}
+	}
+}
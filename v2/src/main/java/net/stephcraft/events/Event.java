@@ -1,57 +1,374 @@
 package net.stephcraft.events;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.Stack;
-import java.util.Comparator;
+import java.util.WeakHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EmptyStackException;
 import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import net.stephcraft.events.metrics.EventMetrics;
+import net.stephcraft.events.metrics.Histogram;
+import net.stephcraft.events.settings.EventBatchOrder;
 import net.stephcraft.events.settings.EventFlag;
 import net.stephcraft.events.settings.EventState;
 
 public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 	
-	private static class ListenerProperties<L> {
+	protected static class ListenerProperties<L> implements Subscription {
+		private final Event<L,?,?,?,?,?,?,?,?,?> event;
+		
+		// null once cancelled
 		private L listener;
+		
+		// set instead of listener when weakly bound, or along with it to the owner of a listener bound with bindOwned,
+		// cleared once the listener (or owner) got garbage collected or cancelled
+		private WeakReference<?> reference;
 		private int priority;
 		private boolean ignoreCancelled;
 		
-		private ListenerProperties(L listener, int priority, boolean ignoreCancelled) {
-			this.listener = listener;
+		// Filter.PN guarding the listener, null if unfiltered
+		private Object filter;
+		
+		// (Object listener, Object[] params)void, used by reflectionTrigger
+		private MethodHandle invoker;
+		
+		// execution times, null unless the event records metrics
+		private Histogram latencies;
+		
+		// redirect listeners, replaced in the dispatch plan by the target's listeners adapted by the flattener
+		private Event<?,?,?,?,?,?,?,?,?,?> target;
+		private Function<ListenerProperties<?>, L> flattener;
+		
+		private ListenerProperties(Event<L,?,?,?,?,?,?,?,?,?> event, L listener, int priority, boolean ignoreCancelled, ReferenceQueue<Object> queue) {
+			this.event = event;
+			this.listener = queue == null ? listener : null;
+			this.reference = queue == null ? null : new WeakReference<>(listener, queue);
 			this.priority = priority;
 			this.ignoreCancelled = ignoreCancelled;
+			this.invoker = INVOKERS.get(listener.getClass());
+		}
+		
+		private static <L> ListenerProperties<L> of(Event<L,?,?,?,?,?,?,?,?,?> event, L listener, int priority, boolean ignoreCancelled) {
+			return new ListenerProperties<>(event, listener, priority, ignoreCancelled, null);
+		}
+		
+		private static <L> ListenerProperties<L> weak(Event<L,?,?,?,?,?,?,?,?,?> event, L listener, int priority, boolean ignoreCancelled, ReferenceQueue<Object> queue) {
+			return new ListenerProperties<>(event, listener, priority, ignoreCancelled, queue);
+		}
+		
+		private static <L> ListenerProperties<L> owned(Event<L,?,?,?,?,?,?,?,?,?> event, L listener, WeakReference<?> owner, int priority, boolean ignoreCancelled) {
+			final ListenerProperties<L> properties = new ListenerProperties<>(event, listener, priority, ignoreCancelled, null);
+			properties.reference = owner;
+			return properties;
+		}
+		
+		/**
+		 * The bound listener, null once unbound or once a weakly bound one (or its owner) got garbage collected
+		 */
+		@SuppressWarnings("unchecked")
+		public L getListener() {
+			if(reference == null) return listener;
+			final Object referent = reference.get();
+			return listener == null ? (L) referent : referent == null ? null : listener;
+		}
+		
+		@Override
+		public void cancel() {
+			final L listener = getListener();
+			if(listener == null) return;
+			
+			clear();
+			event.tombstone(this, listener);
+		}
+		
+		@Override
+		public boolean isActive() {
+			return getListener() != null;
+		}
+		
+		// tombstone, skipped by triggers until the snapshots get compacted
+		private void clear() {
+			listener = null;
+			if(reference != null) reference.clear();
+		}
+		
+		public boolean isWeak() {
+			return reference != null;
+		}
+		
+		public int getPriority() {
+			return priority;
+		}
+		
+		public boolean isIgnoreCancelled() {
+			return ignoreCancelled;
+		}
+		
+		public Histogram getLatencies() {
+			return latencies;
+		}
+		
+		public Object getFilter() {
+			return filter;
+		}
+	}
+	
+	/**
+	 * Compiled dispatcher of a snapshot, null until the snapshot stayed for COMPILE_THRESHOLD triggers
+	 */
+	private static final class Compilation<L> {
+		private final ListenerProperties<L>[] snapshot;
+		private final L dispatcher;
+		private final boolean compiled;
+		private int triggers;
+		
+		private Compilation(ListenerProperties<L>[] snapshot, L dispatcher, boolean compiled) {
+			this.snapshot = snapshot;
+			this.dispatcher = dispatcher;
+			this.compiled = compiled;
+		}
+	}
+	
+	/**
+	 * Listeners of a redirecting event with its redirect chain flattened in, valid while version is the event's version
+	 */
+	private static final class Plan<L> {
+		private final ListenerProperties<L>[] listeners;
+		
+		// the redirect targets, their frames are entered along with the event's
+		private final Event<?,?,?,?,?,?,?,?,?,?>[] events;
+		private final int version;
+		
+		private Plan(ListenerProperties<L>[] listeners, Event<?,?,?,?,?,?,?,?,?,?>[] events, int version) {
+			this.listeners = listeners;
+			this.events = events;
+			this.version = version;
+		}
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private static final ListenerProperties[] EMPTY = new ListenerProperties[0];
+	private static final Event<?,?,?,?,?,?,?,?,?,?>[] NONE = new Event<?,?,?,?,?,?,?,?,?,?>[0];
+	
+	// COMPILED events, triggers before a stable snapshot gets compiled and the largest snapshot compiled
+	private static final int COMPILE_THRESHOLD = 1000;
+	private static final int COMPILE_LIMIT = 32;
+	private static final VarHandle SNAPSHOTS = MethodHandles.arrayElementVarHandle(ListenerProperties[][].class);
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+	private static final MethodType FILTER_TYPE = MethodType.methodType(boolean.class, Object.class, Object[].class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	
+	// functional method of each listener class, spread over an Object[], null if there is none
+	private static final ClassValue<MethodHandle> INVOKERS = new ClassValue<>() {
+		
+		@Override
+		protected MethodHandle computeValue(Class<?> type) {
+			return getFunctionalInvoker(type, INVOKER_TYPE);
+		}
+	};
+	
+	// functional method of each filter class, same as INVOKERS but returning the test result
+	private static final ClassValue<MethodHandle> FILTERS = new ClassValue<>() {
+		
+		@Override
+		protected MethodHandle computeValue(Class<?> type) {
+			return getFunctionalInvoker(type, FILTER_TYPE);
+		}
+	};
+	
+	// (Object)Object getters of the instance Event fields of each class, private and inherited included, used by flush
+	private static final ClassValue<MethodHandle[]> EVENT_FIELDS = new ClassValue<>() {
+		
+		@Override
+		protected MethodHandle[] computeValue(Class<?> type) {
+			List<MethodHandle> getters = new ArrayList<>();
+			
+			for(Class<?> c = type; c != null; c = c.getSuperclass()) {
+				for(Field field : c.getDeclaredFields()) {
+					if(Modifier.isStatic(field.getModifiers())) continue;
+					if(!Event.class.isAssignableFrom(field.getType())) continue;
+					
+					try {
+						if(!field.trySetAccessible()) continue;
+						getters.add(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+					}
+					catch(IllegalAccessException e) {
+						e.printStackTrace();
+					}
+				}
+			}
+			
+			return getters.toArray(new MethodHandle[0]);
+		}
+	};
+	
+	private static MethodHandle getFunctionalInvoker(Class<?> type, MethodType invokerType) {
+		for(Class<?> c = type; c != null; c = c.getSuperclass()) {
+			for(Class<?> functional : c.getInterfaces()) {
+				Method method = getFunctionalMethod(functional);
+				if(method == null) continue;
+				
+				try {
+					return MethodHandles.publicLookup().unreflect(method)
+						.asSpreader(Object[].class, method.getParameterCount())
+						.asType(invokerType);
+				}
+				catch(IllegalAccessException e) {
+					e.printStackTrace();
+				}
+			}
 		}
 		
-		private static <L> ListenerProperties<L> of(L listener, int priority, boolean ignoreCancelled) {
-			return new ListenerProperties<>(listener, priority, ignoreCancelled);
+		return null;
+	}
+	
+	private static Method getFunctionalMethod(Class<?> type) {
+		Method functional = null;
+		
+		for(Method method : type.getMethods()) {
+			if(!Modifier.isAbstract(method.getModifiers())) continue;
+			if(functional != null) return null;
+			functional = method;
 		}
+		
+		return functional;
 	}
 	
 	public static class EventStackElement {
 		private EventState state;
 		public boolean cancelled;
 		
-		private EventStackElement(EventState state) {
-			this.state = state;
+		// redirect targets entered with this frame, left with it
+		private Event<?,?,?,?,?,?,?,?,?,?>[] redirected;
+		
+		// frame of the event dispatching this redirect target's listeners in its own loop, holds the cancellation
+		private EventStackElement shared;
+		
+		private EventStackElement() {}
+		
+		private EventStackElement resolve() {
+			return shared != null ? shared : this;
+		}
+	}
+	
+	private static class EventStack {
+		
+		// preallocated frames indexed by depth, reused by every trigger
+		private EventStackElement[] elements = { new EventStackElement() };
+		private EventStackElement cached = elements[0];
+		private int depth;
+		
+		private void push(EventState state) {
+			if(depth == elements.length) {
+				elements = Arrays.copyOf(elements, depth * 2);
+				for(int index = depth; index < elements.length; index++)
+					elements[index] = new EventStackElement();
+			}
+			
+			final EventStackElement element = elements[depth++];
+			element.state = state;
+			element.cancelled = false;
+			element.redirected = null;
+			element.shared = null;
+			cached = element;
+		}
+		
+		private void pop() {
+			cached = elements[--depth];
+		}
+		
+		private EventStackElement peek() {
+			if(depth == 0) throw new EmptyStackException();
+			return elements[depth - 1].resolve();
 		}
 	}
 	
-	private final Comparator<ListenerProperties<L>> comparator;
 	private final Map<L, ListenerProperties<L>> listeners;
+	
+	// weakly bound listeners (or owners) that got garbage collected, purged on bind/unbind
+	private final ReferenceQueue<Object> references;
+	private volatile boolean weak;
+	
+	// cancelled subscriptions still in the snapshots, compacted on bind/unbind
+	private final AtomicInteger tombstones;
 	private final Map<Event<?,?, A,B,C,D,E,F,G,H>, Set<L>> redirects;
-	private final Map<EventState, PriorityQueue<ListenerProperties<L>>> queues;
+	
+	// flattened dispatch plans per state (indexed by ordinal), used once a redirect got flattened
+	private final Plan<L>[] plans;
+	private boolean flattening;
+	
+	// bumped whenever this event or one redirecting into it may dispatch differently, outdating the plans
+	private final AtomicInteger version;
+	
+	// events redirecting into this one (weakly held), their plans include its listeners
+	private final Set<Event<?,?,?,?,?,?,?,?,?,?>> sources;
+	
+	// priority sorted listeners per state (indexed by ordinal), replaced on every bind/unbind (copy-on-write)
+	private final ListenerProperties<L>[][] snapshots;
 	protected final EnumSet<EventFlag> flags;
 	
-	private EventStackElement cachedEventStackElement;
-	private Stack<EventStackElement> eventStack;
+	// concurrent events publish snapshots atomically and keep one stack per thread
+	private final boolean concurrent;
+	
+	// PARALLEL_TIER events run the listeners of a priority in parallel, one stack per thread too
+	protected final boolean tiered;
+	private final EventStack eventStack;
+	private final ThreadLocal<EventStack> eventStacks;
 	
+	// asynchronous triggers, queued one after another unless concurrent
+	private volatile Executor executor;
+	private final AtomicReference<CompletableFuture<Boolean>> pending;
+	
+	// stacks of the events an executor thread triggers while it runs an asynchronous trigger, apart from their shared ones.
+	// Set for the events triggered asynchronously and the events they redirect to, the others skip the lookup
+	private static final ThreadLocal<Map<Event<?,?,?,?,?,?,?,?,?,?>, EventStack>> ASYNC_STACKS = new ThreadLocal<>();
+	private volatile boolean asynchronous;
+	
+	// trigger arguments written into, null unless recorded by an EventJournal
+	protected EventJournal.Recorder recorder;
+	
+	// post(...) calls, null until setQueue(queue)
+	private DeferredEventQueue queue;
+	private int queuePriority;
+	
+	// null unless created with EventFlag.METRICS, dispatching checks it once per listener
+	protected final EventMetrics metrics;
+	
+	// per state (indexed by ordinal), null unless created with EventFlag.COMPILED
+	private final Compilation<L>[] compilations;
+	
+	@SuppressWarnings("unchecked")
 	public Event(EventFlag... flags) {
 		switch(flags.length) {
 			case 0: this.flags = EnumSet.noneOf(EventFlag.class); break;
@@ -59,114 +376,417 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 			default: this.flags = EnumSet.of(flags[0], flags); break;
 		}
 		
-		this.comparator = (a, b) -> a.priority - b.priority;
-		this.listeners = new HashMap<>();
-		this.redirects = new HashMap<>();
-		this.eventStack = new Stack<>();
-		this.cachedEventStackElement = new EventStackElement(null);
+		this.concurrent = this.flags.contains(EventFlag.CONCURRENT);
+		this.tiered = this.flags.contains(EventFlag.PARALLEL_TIER);
+		this.listeners = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+		this.references = new ReferenceQueue<>();
+		this.tombstones = new AtomicInteger();
+		this.redirects = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+		this.plans = (Plan<L>[]) new Plan<?>[EventState.values().length];
+		this.version = new AtomicInteger();
+		this.sources = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+		this.eventStack = concurrent || tiered ? null : new EventStack();
+		this.eventStacks = concurrent || tiered ? ThreadLocal.withInitial(EventStack::new) : null;
+		this.pending = new AtomicReference<>(CompletableFuture.completedFuture(false));
+		this.metrics = this.flags.contains(EventFlag.METRICS) ? new EventMetrics() : null;
 		
-		if(this.flags.contains(EventFlag.CHRONICLED)) {
-			this.queues = Map.of(
-				EventState.PRE,  new PriorityQueue<>(comparator),
-				EventState.POST, new PriorityQueue<>(comparator)
-			);
-		}
-		else {
-			this.queues = Map.of(EventState.DEFAULT, new PriorityQueue<>(comparator));
-		}
+		// metrics time every listener, compiled dispatchers do not, nor do they fork tiers
+		boolean compiled = this.flags.contains(EventFlag.COMPILED) && metrics == null && !tiered && DispatchCompiler.isSupported();
+		this.compilations = compiled ? (Compilation<L>[]) new Compilation<?>[EventState.values().length] : null;
+		this.snapshots = (ListenerProperties<L>[][]) new ListenerProperties<?>[EventState.values().length][];
+		Arrays.fill(snapshots, EMPTY);
 	}
 	
 	// --- binding ---
 	
-	public void bind(EventState state, L listener, int priority, boolean ignoreCancelled) {
+	public Subscription bind(EventState state, L listener, int priority, boolean ignoreCancelled) {
+		return bindFiltered(state, listener, priority, ignoreCancelled, null);
+	}
+	
+	/**
+	 * Binds a listener guarded by a Filter.PN of the event's parameters, typed by the bind overloads of each event.
+	 * Listeners sharing a filter instance are kept adjacent within their priority so a trigger tests it once for all of them
+	 */
+	protected Subscription bindFiltered(EventState state, L listener, int priority, boolean ignoreCancelled, Object filter) {
 		failsafeChronicled(state);
-		ListenerProperties<L> properties = ListenerProperties.of(listener, priority, ignoreCancelled);
+		purge();
+		ListenerProperties<L> properties = ListenerProperties.of(this, listener, priority, ignoreCancelled);
+		properties.filter = filter;
+		if(metrics != null) properties.latencies = metrics.bound(listener);
 		listeners.put(listener, properties);
-		queues.get(state).add(properties);
+		insert(state, properties);
+		return properties;
+	}
+	
+	public Subscription bind(EventState state, L listener, int priority) {
+		return bind(state, listener, priority, false);
+	}
+	
+	public Subscription bind(EventState state, L listener) {
+		return bind(state, listener, 0, false);
+	}
+	
+	public Subscription bind(L listener, int priority, boolean ignoreCancelled) {
+		return bind(EventState.DEFAULT, listener, priority, ignoreCancelled);
+	}
+	
+	public Subscription bind(L listener, int priority) {
+		return bind(EventState.DEFAULT, listener, priority);
+	}
+	
+	public Subscription bind(L listener) {
+		return bind(EventState.DEFAULT, listener);
+	}
+	
+	/**
+	 * Binds through a weak reference, the listener stays bound while it is strongly reachable elsewhere,
+	 * typically from a final field of its owner, then gets unbound without flush or unbind.
+	 * A capturing lambda or a method reference such as <code>this::onDamage</code> is reachable from nowhere else
+	 * and gets unbound by the next garbage collection, bind those with <code>bindWeak(owner, listener)</code> instead
+	 */
+	public Subscription bindWeak(EventState state, L listener, int priority, boolean ignoreCancelled) {
+		failsafeChronicled(state);
+		purge();
+		ListenerProperties<L> properties = ListenerProperties.weak(this, listener, priority, ignoreCancelled, references);
+		weak = true;
+		if(metrics != null) properties.latencies = metrics.bound(properties.reference);
+		insert(state, properties);
+		return properties;
+	}
+	
+	public Subscription bindWeak(EventState state, L listener, int priority) {
+		return bindWeak(state, listener, priority, false);
+	}
+	
+	public Subscription bindWeak(EventState state, L listener) {
+		return bindWeak(state, listener, 0, false);
 	}
 	
-	public void bind(EventState state, L listener, int priority) {
-		bind(state, listener, priority, false);
+	public Subscription bindWeak(L listener, int priority, boolean ignoreCancelled) {
+		return bindWeak(EventState.DEFAULT, listener, priority, ignoreCancelled);
 	}
 	
-	public void bind(EventState state, L listener) {
-		bind(state, listener, 0, false);
+	public Subscription bindWeak(L listener, int priority) {
+		return bindWeak(EventState.DEFAULT, listener, priority);
 	}
 	
-	public void bind(L listener, int priority, boolean ignoreCancelled) {
-		bind(EventState.DEFAULT, listener, priority, ignoreCancelled);
+	public Subscription bindWeak(L listener) {
+		return bindWeak(EventState.DEFAULT, listener);
 	}
 	
-	public void bind(L listener, int priority) {
-		bind(EventState.DEFAULT, listener, priority);
+	/**
+	 * Binds the listener adapted to take the owner, weakly referenced, as first argument (see the bindWeak(owner, listener) overloads).
+	 * The adapted listener stays bound while the owner is strongly reachable elsewhere, so it must not capture the owner
+	 */
+	protected <O> Subscription bindOwned(EventState state, O owner, Function<WeakReference<O>, L> adapter, int priority, boolean ignoreCancelled) {
+		failsafeChronicled(state);
+		purge();
+		final WeakReference<O> reference = new WeakReference<>(owner, references);
+		ListenerProperties<L> properties = ListenerProperties.owned(this, adapter.apply(reference), reference, priority, ignoreCancelled);
+		weak = true;
+		if(metrics != null) properties.latencies = metrics.bound(properties.reference);
+		insert(state, properties);
+		return properties;
 	}
 	
-	public void bind(L listener) {
-		bind(EventState.DEFAULT, listener);
+	private void insert(EventState state, ListenerProperties<L> properties) {
+		publish(state.ordinal(), (snapshot) -> {
+			
+			// insert after listeners of equal priority, binding order is kept within a priority
+			int index = snapshot.length;
+			while(index > 0 && snapshot[index - 1].priority > properties.priority) index--;
+			
+			// right after the last listener sharing the filter, one test per run
+			if(properties.filter != null) {
+				for(int other = index - 1; other >= 0 && snapshot[other].priority == properties.priority; other--) {
+					if(snapshot[other].filter != properties.filter) continue;
+					index = other + 1;
+					break;
+				}
+			}
+			
+			ListenerProperties<L>[] updated = Arrays.copyOf(snapshot, snapshot.length + 1);
+			System.arraycopy(snapshot, index, updated, index + 1, snapshot.length - index);
+			updated[index] = properties;
+			return updated;
+		});
 	}
 	
 	public void unbind(L listener) {
-		queues.values().forEach((queue) -> queue.remove(listeners.remove(listener)));
+		listeners.remove(listener);
+		
+		for(int ordinal = 0; ordinal < snapshots.length; ordinal++) {
+			for(ListenerProperties<L> properties : snapshot(ordinal)) {
+				if(properties.getListener() != listener) continue;
+				
+				// weakly bound ones are released on compaction
+				properties.clear();
+				if(!properties.isWeak() && metrics != null) metrics.unbound(listener);
+			}
+		}
+		
+		compact();
 	}
 	
+	@SuppressWarnings("unchecked")
 	public void unbind() {
 		listeners.clear();
+		for(Event<?,?,?,?,?,?,?,?,?,?> event : redirects.keySet())
+			event.sources.remove(this);
 		redirects.clear();
+		flattening = false;
+		while(references.poll() != null);
+		tombstones.set(0);
+		if(metrics != null) metrics.unbound();
+		
+		for(int ordinal = 0; ordinal < snapshots.length; ordinal++) {
+			for(ListenerProperties<L> properties : snapshot(ordinal))
+				properties.clear();
+			publish(ordinal, (snapshot) -> EMPTY);
+		}
 	}
 	
 	public boolean bound(L listener) {
-		return listeners.containsKey(listener);
+		if(listeners.containsKey(listener)) return true;
+		if(!weak) return false;
+		
+		// weakly bound listeners are only in the snapshots
+		for(int ordinal = 0; ordinal < snapshots.length; ordinal++) {
+			for(ListenerProperties<L> properties : snapshot(ordinal)) {
+				if(properties.isWeak() && properties.getListener() == listener) return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Drops the cancelled subscriptions and the weakly bound listeners that got garbage collected, all at once.
+	 * Done on bind and unbind, triggers only skip them so dispatching never allocates
+	 */
+	public void purge() {
+		if(references.poll() == null && tombstones.get() == 0) return;
+		while(references.poll() != null);
+		compact();
+	}
+	
+	private void tombstone(ListenerProperties<L> properties, L listener) {
+		if(!properties.isWeak()) {
+			listeners.remove(listener, properties);
+			if(metrics != null) metrics.unbound(listener);
+		}
+		tombstones.incrementAndGet();
+		
+		// the snapshot stays the same until compacted, drop its dispatchers now
+		if(compilations != null) Arrays.fill(compilations, null);
+	}
+	
+	private void compact() {
+		tombstones.set(0);
+		remove((properties) -> properties.getListener() == null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void remove(Predicate<ListenerProperties<L>> predicate) {
+		for(int ordinal = 0; ordinal < snapshots.length; ordinal++) {
+			publish(ordinal, (snapshot) -> {
+				ListenerProperties<L>[] updated = null;
+				int length = 0;
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					ListenerProperties<L> properties = snapshot[index];
+					if(!predicate.test(properties)) {
+						if(updated != null) updated[length++] = properties;
+						continue;
+					}
+					
+					// copy on the first removal only
+					if(updated == null) {
+						updated = (ListenerProperties<L>[]) new ListenerProperties<?>[snapshot.length];
+						System.arraycopy(snapshot, 0, updated, 0, index);
+						length = index;
+					}
+					if(properties.isWeak() && metrics != null) metrics.unbound(properties.reference);
+				}
+				
+				if(updated == null) return snapshot;
+				return length == 0 ? EMPTY : Arrays.copyOf(updated, length);
+			});
+		}
+	}
+	
+	public boolean hasFlag(EventFlag flag) {
+		return flags.contains(flag);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private ListenerProperties<L>[] snapshot(int ordinal) {
+		if(concurrent) return (ListenerProperties<L>[]) SNAPSHOTS.getAcquire(snapshots, ordinal);
+		return snapshots[ordinal];
+	}
+	
+	/**
+	 * Replaces a snapshot, concurrent events retry until the update is applied atomically (lock-free)
+	 */
+	private void publish(int ordinal, UnaryOperator<ListenerProperties<L>[]> update) {
+		ListenerProperties<L>[] snapshot, updated;
+		if(!concurrent) {
+			snapshot = snapshots[ordinal];
+			updated = update.apply(snapshot);
+			snapshots[ordinal] = updated;
+		}
+		else {
+			do {
+				snapshot = snapshot(ordinal);
+				updated = update.apply(snapshot);
+			}
+			while(updated != snapshot && !SNAPSHOTS.compareAndSet(snapshots, ordinal, snapshot, updated));
+		}
+		
+		if(updated != snapshot) invalidate();
 	}
 	
 	// --- redirecting ---
 	
 	protected void redirect(Event<?,?, A,B,C,D,E,F,G,H> event, L listener, L pre, L post) {
+		redirect(event, listener, pre, post, null);
+	}
+	
+	/**
+	 * Redirects through listeners triggering the event. With a flattener, triggers skip those listeners
+	 * and dispatch the event's listeners, adapted by the flattener, in the same loop (see plan)
+	 */
+	@SuppressWarnings("unchecked")
+	protected void redirect(Event<?,?, A,B,C,D,E,F,G,H> event, L listener, L pre, L post, Function<ListenerProperties<?>, L> flattener) {
+		final List<ListenerProperties<L>> bound = new ArrayList<>(2);
 		if(flags.contains(EventFlag.CHRONICLED)) {
-			bind(EventState.PRE, pre, Integer.MAX_VALUE, false);
-			bind(EventState.POST, post, Integer.MAX_VALUE, false);
+			bound.add((ListenerProperties<L>)bind(EventState.PRE, pre, Integer.MAX_VALUE, false));
+			bound.add((ListenerProperties<L>)bind(EventState.POST, post, Integer.MAX_VALUE, false));
 			redirects.put(event, Set.of(pre, post));
 		}
 		else {
-			bind(EventState.DEFAULT, listener, Integer.MAX_VALUE, false);
+			bound.add((ListenerProperties<L>)bind(EventState.DEFAULT, listener, Integer.MAX_VALUE, false));
 			redirects.put(event, Set.of(listener));
 		}
+		if(asynchronous) event.markAsynchronous();
+		
+		// both must split their triggers the same way to share a plan, and the targets share this event's frame
+		// so only a cancellable event may take their cancellations, the others keep redirecting through the listeners
+		if(flattener == null || !flags.contains(EventFlag.CANCELLABLE)) return;
+		if(event.flags.contains(EventFlag.CHRONICLED) != flags.contains(EventFlag.CHRONICLED)) return;
+		for(ListenerProperties<L> properties : bound) {
+			properties.target = event;
+			properties.flattener = flattener;
+		}
+		event.sources.add(this);
+		flattening = true;
+		invalidate();
 	}
 	
 	protected void unredirect(Event<?,?, A,B,C,D,E,F,G,H> event) {
 		if(!redirects.containsKey(event)) return;
-		Set<L> listeners = redirects.get(event);
+		Set<L> listeners = redirects.remove(event);
 		listeners.forEach((listener) -> unbind(listener));
+		event.sources.remove(this);
 	}
 	
 	protected boolean redirected(Event<?,?, A,B,C,D,E,F,G,H> event) {
 		return redirects.containsKey(event);
 	}
+	
+	/**
+	 * Sets the journal recorder, the events flattening redirects into this one replan to trigger it instead
+	 */
+	void setRecorder(EventJournal.Recorder recorder) {
+		this.recorder = recorder;
+		invalidate();
+	}
+	
+	protected static EventMetrics metricsOf(Event<?,?,?,?,?,?,?,?,?,?> event) {
+		return event.metrics;
+	}
+	
+	/**
+	 * Outdates the plans of this event and of every event redirecting into it
+	 */
+	private void invalidate() {
+		version.incrementAndGet();
+		synchronized(sources) {
+			for(Event<?,?,?,?,?,?,?,?,?,?> source : sources)
+				source.invalidate();
+		}
+	}
+	
+	/**
+	 * The listeners of the state with every flattened redirect replaced by the target's own plan, adapted to this event.
+	 * Rebuilt on the first trigger after a change along the chain
+	 */
+	private Plan<L> plan(int ordinal) {
+		final Plan<L> plan = plans[ordinal];
+		if(plan != null && plan.version == version.get()) return plan;
+		return replan(ordinal);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Plan<L> replan(int ordinal) {
+		final int version = this.version.get();
+		final ListenerProperties<L>[] snapshot = snapshot(ordinal);
+		final List<ListenerProperties<L>> listeners = new ArrayList<>(snapshot.length);
+		final Set<Event<?,?,?,?,?,?,?,?,?,?>> events = new LinkedHashSet<>();
+		for(ListenerProperties<L> properties : snapshot) {
+			// recorded targets are triggered through the redirect listener, their trigger(...) writes the record
+			if(properties.target == null || properties.target.recorder != null) {
+				listeners.add(properties);
+				continue;
+			}
+			
+			// redirect cancelled, nothing left to dispatch
+			if(properties.getListener() == null) continue;
+			
+			final Plan<?> target = properties.target.plan(ordinal);
+			events.add(properties.target);
+			events.addAll(Arrays.asList(target.events));
+			for(ListenerProperties<?> flattened : target.listeners) {
+				final ListenerProperties<L> adapted = ListenerProperties.of(this, properties.flattener.apply(flattened), flattened.priority, flattened.ignoreCancelled);
+				listeners.add(adapted);
+			}
+		}
+		
+		final Plan<L> plan = new Plan<>(listeners.toArray(EMPTY), events.isEmpty() ? NONE : events.toArray(NONE), version);
+		plans[ordinal] = plan;
+		return plan;
+	}
 		
 	// --- flush ---
 	
+	/**
+	 * Unbinds every listener of the events held by the object's fields, a failsafe against memory leaks.
+	 * Fields are resolved once per class, later flushes only read them
+	 */
 	@SuppressWarnings("rawtypes")
 	public static void flush(Object object) {
-		for(Field field : object.getClass().getFields()) {
-			if(Modifier.isStatic(field.getModifiers()) || field.canAccess(object)) {
-				if(field.getType().isAssignableFrom(Event.class)) {
-					Object value = null;
-					
-					try {
-						value = field.get(object);
-					}
-					catch (IllegalArgumentException | IllegalAccessException e) {
-						e.printStackTrace();
-					}
-					
-					if(value instanceof Event) {
-						Event event = (Event)value;
-						event.unbind();
-					}
-				}
+		for(MethodHandle getter : EVENT_FIELDS.get(object.getClass())) {
+			Object value = null;
+			
+			try {
+				value = getter.invokeExact(object);
+			}
+			catch (Throwable e) {
+				e.printStackTrace();
+			}
+			
+			if(value instanceof Event) {
+				Event event = (Event)value;
+				event.unbind();
 			}
 		}
 	}
 	
+	public static void flushAll(Collection<?> objects) {
+		for(Object object : objects)
+			flush(object);
+	}
+	
 	// --- triggering ---
 	
 	protected void trigger(Consumer<L> consumer) {
@@ -195,63 +815,414 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 	}
 	
 	protected void trigger(EventState state, Consumer<L> consumer) {
-		Objects.requireNonNull(state);
-		failsafeNotChronicled(state);
-		
-		if(state == EventState.DEFAULT && flags.contains(EventFlag.CHRONICLED)) {
+		if(chronicled(state)) {
 			trigger(EventState.PRE, consumer);
 			trigger(EventState.POST, consumer);
 			return;
 		}
 		
-		// active, state set, cancelled = false
-		eventStack.push(cachedEventStackElement = new EventStackElement(state));
-		queues.get(state).forEach((properties) -> {
-			final L listener = properties.listener;
-			final boolean ignore = properties.ignoreCancelled && cancelled();
-			
-			if(ignore) return;
-			consumer.accept(listener);
-		});
-		cachedEventStackElement = eventStack.pop();
+		final ListenerProperties<L>[] snapshot = push(state);
+		try {
+			for(int index = 0; index < snapshot.length; index++) {
+				final ListenerProperties<L> properties = snapshot[index];
+				if(ignored(properties)) continue;
+				final L listener = properties.getListener();
+				if(listener == null) continue;
+				if(metrics == null) {
+					consumer.accept(listener);
+				}
+				else {
+					final long start = System.nanoTime();
+					consumer.accept(listener);
+					metrics.invoked(properties.latencies, System.nanoTime() - start);
+				}
+			}
+		}
+		finally {
+			pop();
+		}
 	}
 	
 	public void reflectionTrigger(EventState state, Object... params) {
-		Objects.requireNonNull(state);
 		// failsafeInactive();
-		failsafeNotChronicled(state);
-		
-		if(state == EventState.DEFAULT && flags.contains(EventFlag.CHRONICLED)) {
+		if(chronicled(state)) {
 			reflectionTrigger(EventState.PRE, params);
 			reflectionTrigger(EventState.POST, params);
 			return;
 		}
 		
-		// active, state set, cancelled = false
-		eventStack.push(cachedEventStackElement = new EventStackElement(state));
-		queues.get(state).forEach((properties) -> {
-			final L listener = properties.listener;
-			final boolean ignore = properties.ignoreCancelled && cancelled();
-			
-			if(ignore) return;
+		if(recorder != null) {
 			
+			// arguments not matching the parameters drop the record, their listeners report the mismatch
 			try {
-				listener.getClass().getMethods()[0].invoke(listener, params);
+				record(state, params);
 			}
-			catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException e) {
-				e.printStackTrace();
+			catch(RuntimeException e) {
+				recorder.drop();
 			}
-		});
-		cachedEventStackElement = eventStack.pop();
-	}
-	
-	@Deprecated
-	protected void failsafeInactive() {
-		if(active())
-			throw new UnsupportedOperationException("Event cannot be triggered while being triggered");
+		}
+		
+		final ListenerProperties<L>[] snapshot = push(state);
+		try {
+			for(int index = 0; index < snapshot.length; index++) {
+				final ListenerProperties<L> properties = snapshot[index];
+				if(ignored(properties)) continue;
+				final L listener = properties.getListener();
+				if(listener == null) continue;
+				
+				if(properties.invoker == null) {
+					System.err.println("<Error> Event : listener " + listener.getClass().getName() + " does not implement a functional interface");
+					continue;
+				}
+				if(!filtered(properties.filter, params)) continue;
+				
+				final long start = metrics == null ? 0 : System.nanoTime();
+				try {
+					properties.invoker.invokeExact((Object)listener, params);
+				}
+				catch (Throwable e) {
+					e.printStackTrace();
+				}
+				if(metrics != null) metrics.invoked(properties.latencies, System.nanoTime() - start);
+			}
+		}
+		finally {
+			pop();
+		}
 	}
 	
-	protected void failsafeActive() {
+	private static boolean filtered(Object filter, Object[] params) {
+		if(filter == null) return true;
+		
+		final MethodHandle invoker = FILTERS.get(filter.getClass());
+		if(invoker == null) {
+			System.err.println("<Error> Event : filter " + filter.getClass().getName() + " does not implement a functional interface");
+			return false;
+		}
+		
+		try {
+			return (boolean)invoker.invokeExact(filter, params);
+		}
+		catch (Throwable e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+	
+	// --- dispatching ---
+	
+	/**
+	 * Validates the state and tells if a DEFAULT trigger must be split into PRE and POST
+	 */
+	protected boolean chronicled(EventState state) {
+		Objects.requireNonNull(state);
+		failsafeNotChronicled(state);
+		return state == EventState.DEFAULT && flags.contains(EventFlag.CHRONICLED);
+	}
+	
+	/**
+	 * Enters a new (reused) stack frame, active, state set, cancelled = false
+	 * @return the listeners to dispatch to, in priority order
+	 */
+	protected ListenerProperties<L>[] push(EventState state) {
+		final EventStack stack = enter(state);
+		return flattening ? enterPlan(stack, state) : snapshot(state.ordinal());
+	}
+	
+	/**
+	 * Leaves the current stack frame, its cancellation state remains readable through isCancelled()
+	 */
+	protected void pop() {
+		final EventStackElement element = leave();
+		if(element.redirected != null) leavePlan(element.redirected);
+	}
+	
+	/**
+	 * Flattened redirects, their targets get a frame too for their listeners to cancel,
+	 * sharing this one so the whole plan has a single cancellation state
+	 */
+	private ListenerProperties<L>[] enterPlan(EventStack stack, EventState state) {
+		final Plan<L> plan = plan(state.ordinal());
+		final EventStackElement frame = stack.cached;
+		for(Event<?,?,?,?,?,?,?,?,?,?> event : plan.events)
+			event.enter(state).cached.shared = frame;
+		frame.redirected = plan.events;
+		return plan.listeners;
+	}
+	
+	private static void leavePlan(Event<?,?,?,?,?,?,?,?,?,?>[] events) {
+		for(Event<?,?,?,?,?,?,?,?,?,?> event : events)
+			event.leave();
+	}
+	
+	private EventStack enter(EventState state) {
+		final EventStack stack = stack();
+		stack.push(state);
+		if(metrics != null) metrics.triggered(stack.depth);
+		return stack;
+	}
+	
+	private EventStackElement leave() {
+		final EventStack stack = stack();
+		stack.pop();
+		final EventStackElement element = stack.cached;
+		if(metrics != null && element.resolve().cancelled) metrics.cancelled();
+		return element;
+	}
+	
+	/**
+	 * The dispatcher compiled for the snapshot, an instance of the listener type calling every listener in turn.
+	 * Null unless COMPILED, until the snapshot stayed for COMPILE_THRESHOLD triggers or if it cannot be compiled.
+	 * Listeners unbound while it dispatches still run in that dispatch
+	 */
+	protected L compiled(EventState state, ListenerProperties<L>[] snapshot, Class<?> type) {
+		if(compilations == null) return null;
+		
+		final int ordinal = state.ordinal();
+		final Compilation<L> compilation = compilations[ordinal];
+		if(compilation == null || compilation.snapshot != snapshot) {
+			compilations[ordinal] = new Compilation<>(snapshot, null, false);
+			return null;
+		}
+		if(compilation.compiled || ++compilation.triggers < COMPILE_THRESHOLD) return compilation.dispatcher;
+		
+		final L dispatcher = compile(snapshot, type);
+		compilations[ordinal] = new Compilation<>(snapshot, dispatcher, true);
+		return dispatcher;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private L compile(ListenerProperties<L>[] snapshot, Class<?> type) {
+		// a single listener is monomorphic already
+		if(snapshot.length < 2 || snapshot.length > COMPILE_LIMIT) return null;
+		
+		final Object[] listeners = new Object[snapshot.length];
+		final boolean[] ignoreCancelled = new boolean[snapshot.length];
+		for(int index = 0; index < snapshot.length; index++) {
+			final ListenerProperties<L> properties = snapshot[index];
+			
+			// weak and filtered listeners are checked on every trigger
+			if(properties.isWeak() || properties.filter != null) return null;
+			listeners[index] = properties.getListener();
+			if(listeners[index] == null) return null;
+			ignoreCancelled[index] = properties.ignoreCancelled;
+		}
+		
+		try {
+			return (L)DispatchCompiler.compile(type, listeners, ignoreCancelled, this);
+		}
+		catch (Throwable e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+	
+	/**
+	 * Whether the listener must be skipped since it ignores cancelled events
+	 */
+	protected boolean ignored(ListenerProperties<L> properties) {
+		return properties.ignoreCancelled && stack().peek().cancelled;
+	}
+	
+	/**
+	 * The stack of the calling thread for concurrent and tiered events, the shared one otherwise
+	 * unless the thread runs an asynchronous trigger
+	 */
+	private EventStack stack() {
+		if(eventStack == null) return eventStacks.get();
+		if(!asynchronous) return eventStack;
+		
+		final Map<Event<?,?,?,?,?,?,?,?,?,?>, EventStack> stacks = ASYNC_STACKS.get();
+		return stacks != null ? stacks.computeIfAbsent(this, (event) -> new EventStack()) : eventStack;
+	}
+	
+	// --- parallel tiers ---
+	
+	/**
+	 * PARALLEL_TIER dispatch, listeners sharing a priority form a tier run in parallel on the common fork join pool.
+	 * Tiers run one after another in priority order, cancellation is checked between them so a listener cancelling
+	 * does not stop its siblings. Once redirects got flattened into the event, tiers run on the calling thread
+	 */
+	protected void dispatchTiers(ListenerProperties<L>[] snapshot, Consumer<ListenerProperties<L>> dispatch) {
+		final EventStackElement frame = stack().cached.resolve();
+		for(int from = 0, to; from < snapshot.length; from = to) {
+			to = from + 1;
+			while(to < snapshot.length && snapshot[to].priority == snapshot[from].priority) to++;
+			
+			final boolean cancelled = frame.cancelled;
+			final List<ListenerProperties<L>> tier = new ArrayList<>(to - from);
+			for(int index = from; index < to; index++) {
+				if(snapshot[index].ignoreCancelled && cancelled) continue;
+				tier.add(snapshot[index]);
+			}
+			
+			if(tier.size() < 2 || flattening) {
+				for(ListenerProperties<L> properties : tier)
+					dispatch.accept(properties);
+				continue;
+			}
+			
+			// the calling thread runs one of them, joining gives it the others' cancellations
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>(tier.size());
+			for(ListenerProperties<L> properties : tier)
+				tasks.add(ForkJoinTask.adapt(() -> dispatchShared(frame, properties, dispatch)));
+			ForkJoinTask.invokeAll(tasks);
+		}
+	}
+	
+	/**
+	 * Runs a listener of a tier in a frame of its thread sharing the trigger's one, for cancel() and cancelled()
+	 */
+	private void dispatchShared(EventStackElement frame, ListenerProperties<L> properties, Consumer<ListenerProperties<L>> dispatch) {
+		final EventStack stack = stack();
+		stack.push(frame.state);
+		stack.cached.shared = frame;
+		try {
+			dispatch.accept(properties);
+		}
+		finally {
+			stack.pop();
+		}
+	}
+	
+	// --- asynchronous triggering ---
+	
+	/**
+	 * Executor of triggerAsync(...) calls without an explicit one, null restores the default:
+	 * virtual threads on Java 21+, the common fork join pool otherwise
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+	
+	public Executor getExecutor() {
+		final Executor executor = this.executor;
+		return executor != null ? executor : AsyncDispatch.executor();
+	}
+	
+	/**
+	 * Runs a dispatch on the executor, the future completes with its cancellation state.
+	 * Concurrent events dispatch in parallel, the others run their dispatches one after another in submission order,
+	 * each in a stack of its own so a trigger(...) running meanwhile does not see its frames
+	 */
+	protected CompletableFuture<Boolean> async(Executor executor, BooleanSupplier dispatch) {
+		Objects.requireNonNull(executor);
+		if(concurrent) return CompletableFuture.supplyAsync(dispatch::getAsBoolean, executor);
+		
+		markAsynchronous();
+		final CompletableFuture<Boolean> future = new CompletableFuture<>();
+		pending.getAndSet(future).whenComplete((previous, throwable) -> {
+			try {
+				executor.execute(() -> {
+					try {
+						future.complete(dispatchAsync(dispatch));
+					}
+					catch(Throwable e) {
+						future.completeExceptionally(e);
+					}
+				});
+			}
+			catch(RejectedExecutionException e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+	
+	/**
+	 * Runs an asynchronous dispatch with new stacks for this event and the events it redirects to,
+	 * flattened or not, tiered and concurrent events already have one per thread
+	 */
+	private boolean dispatchAsync(BooleanSupplier dispatch) {
+		
+		// an executor running on the calling thread nests it in another asynchronous trigger
+		final Map<Event<?,?,?,?,?,?,?,?,?,?>, EventStack> stacks = ASYNC_STACKS.get();
+		ASYNC_STACKS.set(new IdentityHashMap<>());
+		try {
+			return dispatch.getAsBoolean();
+		}
+		finally {
+			if(stacks != null) ASYNC_STACKS.set(stacks);
+			else ASYNC_STACKS.remove();
+		}
+	}
+	
+	/**
+	 * Makes the event and the events it redirects to look for the stacks of an asynchronous trigger
+	 */
+	private void markAsynchronous() {
+		if(asynchronous) return;
+		asynchronous = true;
+		for(Event<?,?,?,?,?,?,?,?,?,?> event : redirects.keySet())
+			event.markAsynchronous();
+	}
+	
+	// --- deferred triggering ---
+	
+	/**
+	 * Queue of post(...) calls, its drain order among the other events posting into it given by the priority
+	 * (in PRIORITY order), null stops posting
+	 */
+	public void setQueue(DeferredEventQueue queue, int priority) {
+		this.queue = queue;
+		this.queuePriority = priority;
+	}
+	
+	public void setQueue(DeferredEventQueue queue) {
+		setQueue(queue, 0);
+	}
+	
+	public DeferredEventQueue getQueue() {
+		return queue;
+	}
+	
+	/**
+	 * The queue slot a post(...) writes its arguments into
+	 */
+	protected DeferredEventQueue.Slot defer() {
+		failsafeQueue();
+		return queue.claim(this, queuePriority);
+	}
+	
+	/**
+	 * Hands the written slot back to the queue, which may coalesce it with an earlier post
+	 */
+	protected void commit(DeferredEventQueue.Slot slot) {
+		queue.commit(slot);
+	}
+	
+	/**
+	 * Triggers the event with the arguments written into the slot, called by the queue draining its posts
+	 * and by the journal replaying its triggers
+	 */
+	protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+		throw new UnsupportedOperationException("Event cannot be posted or replayed");
+	}
+	
+	/**
+	 * Journals a reflective trigger, the arguments cast to the event's parameters
+	 */
+	protected void record(EventState state, Object[] params) {
+		throw new UnsupportedOperationException("Event cannot be recorded");
+	}
+	
+	// --- metrics ---
+	
+	/**
+	 * Trigger counts, listener execution times... of an event created with EventFlag.METRICS
+	 */
+	public EventMetrics getMetrics() {
+		failsafeMetrics();
+		return metrics;
+	}
+	
+	@Deprecated
+	protected void failsafeInactive() {
+		if(active())
+			throw new UnsupportedOperationException("Event cannot be triggered while being triggered");
+	}
+	
+	protected void failsafeActive() {
 		if(!active())
 			throw new UnsupportedOperationException("Event is not active");
 	}
@@ -273,6 +1244,16 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 			throw new UnsupportedOperationException("Event is chronicled, you must bind to either PRE or POST");
 	}
 	
+	protected void failsafeQueue() {
+		if(queue == null)
+			throw new UnsupportedOperationException("Event has no deferred queue, set one with setQueue(queue)");
+	}
+	
+	protected void failsafeMetrics() {
+		if(metrics == null)
+			throw new UnsupportedOperationException("Event does not record metrics, create it with EventFlag.METRICS");
+	}
+	
 	protected void failsafeCancellable() {
 		if(!active())
 			throw new UnsupportedOperationException("Event is not active at this time");
@@ -283,7 +1264,7 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 	}
 	
 	protected EventStackElement getStackElement() {
-		return eventStack.peek();
+		return stack().peek();
 	}
 	
 	public void cancel() {
@@ -292,14 +1273,14 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 	
 	public void setCancelled(boolean cancelled) {
 		failsafeCancellable();
-		cachedEventStackElement.cancelled = cancelled;
+		getStackElement().cancelled = cancelled;
 	}
 	
 	/**
 	 * Use outside of a listener to determine if the event got cancelled
 	 */
 	public boolean isCancelled() {
-		return cachedEventStackElement.cancelled;
+		return stack().cached.resolve().cancelled;
 	}
 	
 	/**
@@ -310,11 +1291,11 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 	}
 	
 	public int depth() {
-		return eventStack.size();
+		return stack().depth;
 	}
 	
 	public boolean active() {
-		return !eventStack.empty();
+		return stack().depth > 0;
 	}
 	
 	public static final class $ {}
@@ -323,376 +1304,7680 @@ public abstract class Event <L, A,B,C,D,E,F,G,H,I> {
 
 	public static class P0 extends Event <Listener.P0, $,$,$,$,$,$,$,$,$> {
 
-		public static  P0  create(EventFlag... flags) {
-			return new P0(flags);
+		public static Event.P0 create(EventFlag... flags) {
+			return new Event.P0(flags);
 		}
 
 		public P0(EventFlag... flags) {
 			super(flags);
 		}
 
-		public void trigger() {
-			super.trigger((listener) -> listener.execute());
+		public Subscription bind(EventState state, Listener.P0 listener, int priority, boolean ignoreCancelled, Filter.P0 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
 		}
 		
-		public void trigger(Runnable runnable) {
-			super.trigger((listener) -> listener.execute(), runnable);
+		public Subscription bind(EventState state, Listener.P0 listener, int priority, Filter.P0 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
 		}
 		
-		public void trigger(EventState state) {
-			super.trigger(state, (listener) -> listener.execute());
+		public Subscription bind(Listener.P0 listener, int priority, Filter.P0 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
 		}
 		
-		public <EE> void redirect(Event.P1<EE> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P1<EE> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> () -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance);
+			}, priority, ignoreCancelled);
 		}
 		
-		protected <EE> Listener.P0 getRedirectListener(EventState state, Event.P1<EE> event, EE emitter) {
-			return () -> {
-				event.trigger(state, emitter);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
-		}
-	}
-
-	public static class P1<A> extends Event <Listener.P1<A>, A,$,$,$,$,$,$,$,$> {
-
-		public static <A> P1 <A> create(EventFlag... flags) {
-			return new P1<>(flags);
+		public <EE> Subscription bindWeak(EE owner, Listener.P1<EE> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
 		}
-
-		public P1(EventFlag... flags) {
-			super(flags);
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P1<EE> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
 		}
-
-		public void trigger(A a) {
-			super.trigger((listener) -> listener.execute(a));
+		
+		public void trigger() {
+			trigger(EventState.DEFAULT);
 		}
 		
-		public void trigger(A a, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a), runnable);
+		public void trigger(Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
 		}
 		
-		public void trigger(EventState state, A a) {
-			super.trigger(state, (listener) -> listener.execute(a));
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE);
+				trigger(EventState.POST);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).commit();
+			
+			final ListenerProperties<Listener.P0>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P0 compiled = compiled(state, snapshot, Listener.P0.class);
+				if(compiled != null) {
+					compiled.execute();
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P0> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P0 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P0)filter).test();
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute();
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute();
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
 		}
 		
-		public <EE> void redirect(Event.P2<EE, A> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P0>[] snapshot) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P0 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P0)properties.getFilter()).test()) return;
+				if(metrics == null) {
+					listener.execute();
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute();
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
 		}
 		
-		protected <EE> Listener.P1<A> getRedirectListener(EventState state, Event.P2<EE, A> event, EE emitter) {
-			return (a) -> {
-				event.trigger(state, emitter, a);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
+		public CompletableFuture<Boolean> triggerAsync() {
+			return triggerAsync(getExecutor());
 		}
-	}
-
-	public static class P2<A,B> extends Event <Listener.P2<A,B>, A,B,$,$,$,$,$,$,$> {
-
-		public static <A,B> P2 <A,B> create(EventFlag... flags) {
-			return new P2<>(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST);
+				return cancelled;
+			});
 		}
-
-		public P2(EventFlag... flags) {
-			super(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(runnable);
+				return isCancelled();
+			});
 		}
-
-		public void trigger(A a, B b) {
-			super.trigger((listener) -> listener.execute(a, b));
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post() {
+			commit(defer());
 		}
 		
-		public void trigger(A a, B b, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b), runnable);
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state);
 		}
 		
-		public void trigger(EventState state, A a, B b) {
-			super.trigger(state, (listener) -> listener.execute(a, b));
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).commit();
 		}
 		
-		public <EE> void redirect(Event.P3<EE, A,B> event, EE emitter) {
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P1<EE> event, EE emitter) {
 			super.redirect(event,
 				getRedirectListener(EventState.DEFAULT, event, emitter),
 				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P1<EE>>)properties, emitter)
 			);
 		}
 		
-		protected <EE> Listener.P2<A,B> getRedirectListener(EventState state, Event.P3<EE, A,B> event, EE emitter) {
-			return (a, b) -> {
-				event.trigger(state, emitter, a, b);
+		protected <EE> Listener.P0 getRedirectListener(EventState state, Event.P1<EE> event, EE emitter) {
+			return () -> {
+				event.trigger(state, emitter);
 				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
 					this.setCancelled(event.isCancelled());
 			};
 		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P0 getFlattenedListener(Event.P1<EE> event, ListenerProperties<Listener.P1<EE>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return () -> {
+					final Listener.P1<EE> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter);
+				};
+			}
+			
+			return () -> {
+				final Listener.P1<EE> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P1<EE>)properties.getFilter()).test(emitter)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
 	}
 
-	public static class P3<A,B,C> extends Event <Listener.P3<A,B,C>, A,B,C,$,$,$,$,$,$> {
+	public static class P1<A> extends Event <Listener.P1<A>, A,$,$,$,$,$,$,$,$> {
 
-		public static <A,B,C> P3 <A,B,C> create(EventFlag... flags) {
-			return new P3<>(flags);
+		public static <A> Event.P1<A> create(EventFlag... flags) {
+			return new Event.P1<>(flags);
 		}
 
-		public P3(EventFlag... flags) {
+		public P1(EventFlag... flags) {
 			super(flags);
 		}
 
-		public void trigger(A a, B b, C c) {
-			super.trigger((listener) -> listener.execute(a, b, c));
+		public Subscription bind(EventState state, Listener.P1<A> listener, int priority, boolean ignoreCancelled, Filter.P1<A> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
 		}
 		
-		public void trigger(A a, B b, C c, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c), runnable);
+		public Subscription bind(EventState state, Listener.P1<A> listener, int priority, Filter.P1<A> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
 		}
 		
-		public void trigger(EventState state, A a, B b, C c) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c));
+		public Subscription bind(Listener.P1<A> listener, int priority, Filter.P1<A> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
 		}
 		
-		public <EE> void redirect(Event.P4<EE, A,B,C> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P2<EE, A> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a);
+			}, priority, ignoreCancelled);
 		}
 		
-		protected <EE> Listener.P3<A,B,C> getRedirectListener(EventState state, Event.P4<EE, A,B,C> event, EE emitter) {
-			return (a, b, c) -> {
-				event.trigger(state, emitter, a, b, c);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
+		public <EE> Subscription bindWeak(EE owner, Listener.P2<EE, A> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
 		}
-	}
-
-	public static class P4<A,B,C,D> extends Event <Listener.P4<A,B,C,D>, A,B,C,D,$,$,$,$,$> {
-
-		public static <A,B,C,D> P4 <A,B,C,D> create(EventFlag... flags) {
-			return new P4<>(flags);
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P2<EE, A> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
 		}
-
-		public P4(EventFlag... flags) {
-			super(flags);
+		
+		public void trigger(A a) {
+			trigger(EventState.DEFAULT, a);
 		}
-
-		public void trigger(A a, B b, C c, D d) {
-			super.trigger((listener) -> listener.execute(a, b, c, d));
+		
+		public void trigger(A a, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
 		}
 		
-		public void trigger(A a, B b, C c, D d, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d), runnable);
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a);
+				trigger(EventState.POST, a);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).commit();
+			
+			final ListenerProperties<Listener.P1<A>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P1<A> compiled = compiled(state, snapshot, Listener.P1.class);
+				if(compiled != null) {
+					compiled.execute(a);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P1<A>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P1<A> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P1<A>)filter).test(a);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d));
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P1<A>>[] snapshot, A a) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P1<A> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P1<A>)properties.getFilter()).test(a)) return;
+				if(metrics == null) {
+					listener.execute(a);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
 		}
 		
-		public <EE> void redirect(Event.P5<EE, A,B,C,D> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		public BitSet triggerBatch(int length, A[] a) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a);
 		}
 		
-		protected <EE> Listener.P4<A,B,C,D> getRedirectListener(EventState state, Event.P5<EE, A,B,C,D> event, EE emitter) {
-			return (a, b, c, d) -> {
-				event.trigger(state, emitter, a, b, c, d);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a);
+				triggerBatch(EventState.POST, order, length, a);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P1<A>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P1<A>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P1<A> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P1<A>)filter).test(a[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P1<A>> properties = snapshot[index];
+						final Listener.P1<A> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P1<A> filter = (Filter.P1<A>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
 		}
-	}
-
-	public static class P5<A,B,C,D,E> extends Event <Listener.P5<A,B,C,D,E>, A,B,C,D,E,$,$,$,$> {
-
-		public static <A,B,C,D,E> P5 <A,B,C,D,E> create(EventFlag... flags) {
-			return new P5<>(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(A a) {
+			return triggerAsync(getExecutor(), a);
 		}
-
-		public P5(EventFlag... flags) {
-			super(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a);
+				return cancelled;
+			});
 		}
-
-		public void trigger(A a, B b, C c, D d, E e) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e));
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, runnable);
+				return isCancelled();
+			});
 		}
 		
-		public void trigger(A a, B b, C c, D d, E e, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e), runnable);
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a) {
+			commit(defer().set(0, a));
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d, E e) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d, e));
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0));
 		}
 		
-		public <EE> void redirect(Event.P6<EE, A,B,C,D,E> event, EE emitter) {
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P2<EE, A> event, EE emitter) {
 			super.redirect(event,
 				getRedirectListener(EventState.DEFAULT, event, emitter),
 				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P2<EE, A>>)properties, emitter)
 			);
 		}
 		
-		protected <EE> Listener.P5<A,B,C,D,E> getRedirectListener(EventState state, Event.P6<EE, A,B,C,D,E> event, EE emitter) {
-			return (a, b, c, d, e) -> {
-				event.trigger(state, emitter, a, b, c, d, e);
+		protected <EE> Listener.P1<A> getRedirectListener(EventState state, Event.P2<EE, A> event, EE emitter) {
+			return (a) -> {
+				event.trigger(state, emitter, a);
 				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
 					this.setCancelled(event.isCancelled());
 			};
 		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P1<A> getFlattenedListener(Event.P2<EE, A> event, ListenerProperties<Listener.P2<EE, A>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a) -> {
+					final Listener.P2<EE, A> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a);
+				};
+			}
+			
+			return (a) -> {
+				final Listener.P2<EE, A> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P2<EE, A>)properties.getFilter()).test(emitter, a)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
 	}
 
-	public static class P6<A,B,C,D,E,F> extends Event <Listener.P6<A,B,C,D,E,F>, A,B,C,D,E,F,$,$,$> {
+	public static class P2<A,B> extends Event <Listener.P2<A,B>, A,B,$,$,$,$,$,$,$> {
 
-		public static <A,B,C,D,E,F> P6 <A,B,C,D,E,F> create(EventFlag... flags) {
-			return new P6<>(flags);
+		public static <A,B> Event.P2<A,B> create(EventFlag... flags) {
+			return new Event.P2<>(flags);
 		}
 
-		public P6(EventFlag... flags) {
+		public P2(EventFlag... flags) {
 			super(flags);
 		}
 
-		public void trigger(A a, B b, C c, D d, E e, F f) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f));
+		public Subscription bind(EventState state, Listener.P2<A,B> listener, int priority, boolean ignoreCancelled, Filter.P2<A,B> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
 		}
 		
-		public void trigger(A a, B b, C c, D d, E e, F f, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f), runnable);
+		public Subscription bind(EventState state, Listener.P2<A,B> listener, int priority, Filter.P2<A,B> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d, E e, F f) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d, e, f));
+		public Subscription bind(Listener.P2<A,B> listener, int priority, Filter.P2<A,B> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
 		}
 		
-		public <EE> void redirect(Event.P7<EE, A,B,C,D,E,F> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P3<EE, A,B> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b);
+			}, priority, ignoreCancelled);
 		}
 		
-		protected <EE> Listener.P6<A,B,C,D,E,F> getRedirectListener(EventState state, Event.P7<EE, A,B,C,D,E,F> event, EE emitter) {
-			return (a, b, c, d, e, f) -> {
-				event.trigger(state, emitter, a, b, c, d, e, f);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
+		public <EE> Subscription bindWeak(EE owner, Listener.P3<EE, A,B> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
 		}
-	}
-
-	public static class P7<A,B,C,D,E,F,G> extends Event <Listener.P7<A,B,C,D,E,F,G>, A,B,C,D,E,F,G,$,$> {
-
-		public static <A,B,C,D,E,F,G> P7 <A,B,C,D,E,F,G> create(EventFlag... flags) {
-			return new P7<>(flags);
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P3<EE, A,B> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
 		}
-
-		public P7(EventFlag... flags) {
-			super(flags);
+		
+		public void trigger(A a, B b) {
+			trigger(EventState.DEFAULT, a, b);
 		}
-
-		public void trigger(A a, B b, C c, D d, E e, F f, G g) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g));
+		
+		public void trigger(A a, B b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
 		}
 		
-		public void trigger(A a, B b, C c, D d, E e, F f, G g, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g), runnable);
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.P2<A,B>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P2<A,B> compiled = compiled(state, snapshot, Listener.P2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P2<A,B>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P2<A,B> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P2<A,B>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d, e, f, g));
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P2<A,B>>[] snapshot, A a, B b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P2<A,B> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P2<A,B>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
 		}
 		
-		public <EE> void redirect(Event.P8<EE, A,B,C,D,E,F,G> event, EE emitter) {
-			super.redirect(event,
-				getRedirectListener(EventState.DEFAULT, event, emitter),
-				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
-			);
+		public BitSet triggerBatch(int length, A[] a, B[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
 		}
 		
-		protected <EE> Listener.P7<A,B,C,D,E,F,G> getRedirectListener(EventState state, Event.P8<EE, A,B,C,D,E,F,G> event, EE emitter) {
-			return (a, b, c, d, e, f, g) -> {
-				event.trigger(state, emitter, a, b, c, d, e, f, g);
-				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
-					this.setCancelled(event.isCancelled());
-			};
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P2<A,B>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P2<A,B>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P2<A,B> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P2<A,B>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P2<A,B>> properties = snapshot[index];
+						final Listener.P2<A,B> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P2<A,B> filter = (Filter.P2<A,B>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
 		}
-	}
-
-	public static class P8<A,B,C,D,E,F,G,H> extends Event <Listener.P8<A,B,C,D,E,F,G,H>, A,B,C,D,E,F,G,H,$> {
-
-		public static <A,B,C,D,E,F,G,H> P8 <A,B,C,D,E,F,G,H> create(EventFlag... flags) {
-			return new P8<>(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b) {
+			return triggerAsync(getExecutor(), a, b);
 		}
-
-		public P8(EventFlag... flags) {
-			super(flags);
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
 		}
-
-		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g, h));
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
 		}
 		
-		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g, h), runnable);
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b) {
+			commit(defer().set(0, a).set(1, b));
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g, H h) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d, e, f, g, h));
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1));
 		}
 		
-		public <EE> void redirect(Event.P9<EE, A,B,C,D,E,F,G,H> event, EE emitter) {
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P3<EE, A,B> event, EE emitter) {
 			super.redirect(event,
 				getRedirectListener(EventState.DEFAULT, event, emitter),
 				getRedirectListener(EventState.PRE, event, emitter),
-				getRedirectListener(EventState.POST, event, emitter)
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P3<EE, A,B>>)properties, emitter)
 			);
 		}
 		
-		protected <EE> Listener.P8<A,B,C,D,E,F,G,H> getRedirectListener(EventState state, Event.P9<EE, A,B,C,D,E,F,G,H> event, EE emitter) {
-			return (a, b, c, d, e, f, g, h) -> {
-				event.trigger(state, emitter, a, b, c, d, e, f, g, h);
+		protected <EE> Listener.P2<A,B> getRedirectListener(EventState state, Event.P3<EE, A,B> event, EE emitter) {
+			return (a, b) -> {
+				event.trigger(state, emitter, a, b);
 				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
 					this.setCancelled(event.isCancelled());
 			};
 		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P2<A,B> getFlattenedListener(Event.P3<EE, A,B> event, ListenerProperties<Listener.P3<EE, A,B>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b) -> {
+					final Listener.P3<EE, A,B> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b);
+				};
+			}
+			
+			return (a, b) -> {
+				final Listener.P3<EE, A,B> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P3<EE, A,B>)properties.getFilter()).test(emitter, a, b)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
 	}
 
-	public static class P9<A,B,C,D,E,F,G,H,I> extends Event <Listener.P9<A,B,C,D,E,F,G,H,I>, A,B,C,D,E,F,G,H,I> {
+	public static class P3<A,B,C> extends Event <Listener.P3<A,B,C>, A,B,C,$,$,$,$,$,$> {
 
-		public static <A,B,C,D,E,F,G,H,I> P9 <A,B,C,D,E,F,G,H,I> create(EventFlag... flags) {
-			return new P9<>(flags);
+		public static <A,B,C> Event.P3<A,B,C> create(EventFlag... flags) {
+			return new Event.P3<>(flags);
 		}
 
-		public P9(EventFlag... flags) {
+		public P3(EventFlag... flags) {
 			super(flags);
 		}
 
-		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g, h, i));
+		public Subscription bind(EventState state, Listener.P3<A,B,C> listener, int priority, boolean ignoreCancelled, Filter.P3<A,B,C> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
 		}
 		
-		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, I i, Runnable runnable) {
-			super.trigger((listener) -> listener.execute(a, b, c, d, e, f, g, h, i), runnable);
+		public Subscription bind(EventState state, Listener.P3<A,B,C> listener, int priority, Filter.P3<A,B,C> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
 		}
 		
-		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g, H h, I i) {
-			super.trigger(state, (listener) -> listener.execute(a, b, c, d, e, f, g, h, i));
+		public Subscription bind(Listener.P3<A,B,C> listener, int priority, Filter.P3<A,B,C> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
 		}
-	}
-}
-
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P4<EE, A,B,C> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P4<EE, A,B,C> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P4<EE, A,B,C> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c) {
+			trigger(EventState.DEFAULT, a, b, c);
+		}
+		
+		public void trigger(A a, B b, C c, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c);
+				trigger(EventState.POST, a, b, c);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).commit();
+			
+			final ListenerProperties<Listener.P3<A,B,C>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P3<A,B,C> compiled = compiled(state, snapshot, Listener.P3.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P3<A,B,C>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P3<A,B,C> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P3<A,B,C>)filter).test(a, b, c);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P3<A,B,C>>[] snapshot, A a, B b, C c) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P3<A,B,C> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P3<A,B,C>)properties.getFilter()).test(a, b, c)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c);
+				triggerBatch(EventState.POST, order, length, a, b, c);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P3<A,B,C>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P3<A,B,C>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P3<A,B,C> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P3<A,B,C>)filter).test(a[element], b[element], c[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P3<A,B,C>> properties = snapshot[index];
+						final Listener.P3<A,B,C> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P3<A,B,C> filter = (Filter.P3<A,B,C>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c) {
+			return triggerAsync(getExecutor(), a, b, c);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c) {
+			commit(defer().set(0, a).set(1, b).set(2, c));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P4<EE, A,B,C> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P4<EE, A,B,C>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P3<A,B,C> getRedirectListener(EventState state, Event.P4<EE, A,B,C> event, EE emitter) {
+			return (a, b, c) -> {
+				event.trigger(state, emitter, a, b, c);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P3<A,B,C> getFlattenedListener(Event.P4<EE, A,B,C> event, ListenerProperties<Listener.P4<EE, A,B,C>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c) -> {
+					final Listener.P4<EE, A,B,C> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c);
+				};
+			}
+			
+			return (a, b, c) -> {
+				final Listener.P4<EE, A,B,C> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P4<EE, A,B,C>)properties.getFilter()).test(emitter, a, b, c)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P4<A,B,C,D> extends Event <Listener.P4<A,B,C,D>, A,B,C,D,$,$,$,$,$> {
+
+		public static <A,B,C,D> Event.P4<A,B,C,D> create(EventFlag... flags) {
+			return new Event.P4<>(flags);
+		}
+
+		public P4(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P4<A,B,C,D> listener, int priority, boolean ignoreCancelled, Filter.P4<A,B,C,D> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P4<A,B,C,D> listener, int priority, Filter.P4<A,B,C,D> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P4<A,B,C,D> listener, int priority, Filter.P4<A,B,C,D> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P5<EE, A,B,C,D> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c, d) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c, d);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P5<EE, A,B,C,D> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P5<EE, A,B,C,D> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c, D d) {
+			trigger(EventState.DEFAULT, a, b, c, d);
+		}
+		
+		public void trigger(A a, B b, C c, D d, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d);
+				trigger(EventState.POST, a, b, c, d);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).commit();
+			
+			final ListenerProperties<Listener.P4<A,B,C,D>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P4<A,B,C,D> compiled = compiled(state, snapshot, Listener.P4.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P4<A,B,C,D>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P4<A,B,C,D> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P4<A,B,C,D>)filter).test(a, b, c, d);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P4<A,B,C,D>>[] snapshot, A a, B b, C c, D d) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P4<A,B,C,D> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P4<A,B,C,D>)properties.getFilter()).test(a, b, c, d)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d);
+				triggerBatch(EventState.POST, order, length, a, b, c, d);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P4<A,B,C,D>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P4<A,B,C,D>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P4<A,B,C,D> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P4<A,B,C,D>)filter).test(a[element], b[element], c[element], d[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P4<A,B,C,D>> properties = snapshot[index];
+						final Listener.P4<A,B,C,D> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P4<A,B,C,D> filter = (Filter.P4<A,B,C,D>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d) {
+			return triggerAsync(getExecutor(), a, b, c, d);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P5<EE, A,B,C,D> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P5<EE, A,B,C,D>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P4<A,B,C,D> getRedirectListener(EventState state, Event.P5<EE, A,B,C,D> event, EE emitter) {
+			return (a, b, c, d) -> {
+				event.trigger(state, emitter, a, b, c, d);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P4<A,B,C,D> getFlattenedListener(Event.P5<EE, A,B,C,D> event, ListenerProperties<Listener.P5<EE, A,B,C,D>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c, d) -> {
+					final Listener.P5<EE, A,B,C,D> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c, d);
+				};
+			}
+			
+			return (a, b, c, d) -> {
+				final Listener.P5<EE, A,B,C,D> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P5<EE, A,B,C,D>)properties.getFilter()).test(emitter, a, b, c, d)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c, d);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c, d);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P5<A,B,C,D,E> extends Event <Listener.P5<A,B,C,D,E>, A,B,C,D,E,$,$,$,$> {
+
+		public static <A,B,C,D,E> Event.P5<A,B,C,D,E> create(EventFlag... flags) {
+			return new Event.P5<>(flags);
+		}
+
+		public P5(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P5<A,B,C,D,E> listener, int priority, boolean ignoreCancelled, Filter.P5<A,B,C,D,E> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P5<A,B,C,D,E> listener, int priority, Filter.P5<A,B,C,D,E> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P5<A,B,C,D,E> listener, int priority, Filter.P5<A,B,C,D,E> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P6<EE, A,B,C,D,E> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c, d, e) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c, d, e);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P6<EE, A,B,C,D,E> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P6<EE, A,B,C,D,E> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e) {
+			trigger(EventState.DEFAULT, a, b, c, d, e);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d, e);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d, e);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d, e);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d, E e) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d, e);
+				trigger(EventState.POST, a, b, c, d, e);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).commit();
+			
+			final ListenerProperties<Listener.P5<A,B,C,D,E>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P5<A,B,C,D,E> compiled = compiled(state, snapshot, Listener.P5.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d, e);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d, e);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P5<A,B,C,D,E>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P5<A,B,C,D,E> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P5<A,B,C,D,E>)filter).test(a, b, c, d, e);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d, e);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d, e);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P5<A,B,C,D,E>>[] snapshot, A a, B b, C c, D d, E e) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P5<A,B,C,D,E> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P5<A,B,C,D,E>)properties.getFilter()).test(a, b, c, d, e)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d, e);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d, e);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d, E[] e) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d, e);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d, E[] e) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d, e);
+				triggerBatch(EventState.POST, order, length, a, b, c, d, e);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P5<A,B,C,D,E>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P5<A,B,C,D,E>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P5<A,B,C,D,E> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P5<A,B,C,D,E>)filter).test(a[element], b[element], c[element], d[element], e[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P5<A,B,C,D,E>> properties = snapshot[index];
+						final Listener.P5<A,B,C,D,E> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P5<A,B,C,D,E> filter = (Filter.P5<A,B,C,D,E>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element], e[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d, E e) {
+			return triggerAsync(getExecutor(), a, b, c, d, e);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d, e);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d, e);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d, e);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, e, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d, E e) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d).set(4, e));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3), slot.<E>get(4));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).set(4, params[4]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P6<EE, A,B,C,D,E> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P6<EE, A,B,C,D,E>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P5<A,B,C,D,E> getRedirectListener(EventState state, Event.P6<EE, A,B,C,D,E> event, EE emitter) {
+			return (a, b, c, d, e) -> {
+				event.trigger(state, emitter, a, b, c, d, e);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P5<A,B,C,D,E> getFlattenedListener(Event.P6<EE, A,B,C,D,E> event, ListenerProperties<Listener.P6<EE, A,B,C,D,E>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c, d, e) -> {
+					final Listener.P6<EE, A,B,C,D,E> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c, d, e);
+				};
+			}
+			
+			return (a, b, c, d, e) -> {
+				final Listener.P6<EE, A,B,C,D,E> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P6<EE, A,B,C,D,E>)properties.getFilter()).test(emitter, a, b, c, d, e)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c, d, e);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c, d, e);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P6<A,B,C,D,E,F> extends Event <Listener.P6<A,B,C,D,E,F>, A,B,C,D,E,F,$,$,$> {
+
+		public static <A,B,C,D,E,F> Event.P6<A,B,C,D,E,F> create(EventFlag... flags) {
+			return new Event.P6<>(flags);
+		}
+
+		public P6(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P6<A,B,C,D,E,F> listener, int priority, boolean ignoreCancelled, Filter.P6<A,B,C,D,E,F> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P6<A,B,C,D,E,F> listener, int priority, Filter.P6<A,B,C,D,E,F> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P6<A,B,C,D,E,F> listener, int priority, Filter.P6<A,B,C,D,E,F> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P7<EE, A,B,C,D,E,F> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c, d, e, f) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c, d, e, f);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P7<EE, A,B,C,D,E,F> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P7<EE, A,B,C,D,E,F> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f) {
+			trigger(EventState.DEFAULT, a, b, c, d, e, f);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d, e, f);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d, e, f);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d, e, f);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d, E e, F f) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d, e, f);
+				trigger(EventState.POST, a, b, c, d, e, f);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).commit();
+			
+			final ListenerProperties<Listener.P6<A,B,C,D,E,F>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P6<A,B,C,D,E,F> compiled = compiled(state, snapshot, Listener.P6.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d, e, f);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d, e, f);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P6<A,B,C,D,E,F>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P6<A,B,C,D,E,F> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P6<A,B,C,D,E,F>)filter).test(a, b, c, d, e, f);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d, e, f);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d, e, f);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P6<A,B,C,D,E,F>>[] snapshot, A a, B b, C c, D d, E e, F f) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P6<A,B,C,D,E,F> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P6<A,B,C,D,E,F>)properties.getFilter()).test(a, b, c, d, e, f)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d, e, f);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d, e, f);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d, e, f);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d, e, f);
+				triggerBatch(EventState.POST, order, length, a, b, c, d, e, f);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P6<A,B,C,D,E,F>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P6<A,B,C,D,E,F>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P6<A,B,C,D,E,F> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P6<A,B,C,D,E,F>)filter).test(a[element], b[element], c[element], d[element], e[element], f[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P6<A,B,C,D,E,F>> properties = snapshot[index];
+						final Listener.P6<A,B,C,D,E,F> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P6<A,B,C,D,E,F> filter = (Filter.P6<A,B,C,D,E,F>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element], e[element], f[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d, E e, F f) {
+			return triggerAsync(getExecutor(), a, b, c, d, e, f);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d, e, f);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d, e, f);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d, e, f);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, e, f, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d, E e, F f) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3), slot.<E>get(4), slot.<F>get(5));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).set(4, params[4]).set(5, params[5]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P7<EE, A,B,C,D,E,F> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P7<EE, A,B,C,D,E,F>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P6<A,B,C,D,E,F> getRedirectListener(EventState state, Event.P7<EE, A,B,C,D,E,F> event, EE emitter) {
+			return (a, b, c, d, e, f) -> {
+				event.trigger(state, emitter, a, b, c, d, e, f);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P6<A,B,C,D,E,F> getFlattenedListener(Event.P7<EE, A,B,C,D,E,F> event, ListenerProperties<Listener.P7<EE, A,B,C,D,E,F>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c, d, e, f) -> {
+					final Listener.P7<EE, A,B,C,D,E,F> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c, d, e, f);
+				};
+			}
+			
+			return (a, b, c, d, e, f) -> {
+				final Listener.P7<EE, A,B,C,D,E,F> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P7<EE, A,B,C,D,E,F>)properties.getFilter()).test(emitter, a, b, c, d, e, f)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c, d, e, f);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c, d, e, f);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P7<A,B,C,D,E,F,G> extends Event <Listener.P7<A,B,C,D,E,F,G>, A,B,C,D,E,F,G,$,$> {
+
+		public static <A,B,C,D,E,F,G> Event.P7<A,B,C,D,E,F,G> create(EventFlag... flags) {
+			return new Event.P7<>(flags);
+		}
+
+		public P7(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P7<A,B,C,D,E,F,G> listener, int priority, boolean ignoreCancelled, Filter.P7<A,B,C,D,E,F,G> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P7<A,B,C,D,E,F,G> listener, int priority, Filter.P7<A,B,C,D,E,F,G> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P7<A,B,C,D,E,F,G> listener, int priority, Filter.P7<A,B,C,D,E,F,G> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P8<EE, A,B,C,D,E,F,G> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c, d, e, f, g) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c, d, e, f, g);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P8<EE, A,B,C,D,E,F,G> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P8<EE, A,B,C,D,E,F,G> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g) {
+			trigger(EventState.DEFAULT, a, b, c, d, e, f, g);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d, e, f, g);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d, e, f, g);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d, e, f, g);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d, e, f, g);
+				trigger(EventState.POST, a, b, c, d, e, f, g);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g).commit();
+			
+			final ListenerProperties<Listener.P7<A,B,C,D,E,F,G>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P7<A,B,C,D,E,F,G> compiled = compiled(state, snapshot, Listener.P7.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d, e, f, g);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d, e, f, g);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P7<A,B,C,D,E,F,G>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P7<A,B,C,D,E,F,G> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P7<A,B,C,D,E,F,G>)filter).test(a, b, c, d, e, f, g);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d, e, f, g);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d, e, f, g);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P7<A,B,C,D,E,F,G>>[] snapshot, A a, B b, C c, D d, E e, F f, G g) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P7<A,B,C,D,E,F,G> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P7<A,B,C,D,E,F,G>)properties.getFilter()).test(a, b, c, d, e, f, g)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d, e, f, g);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d, e, f, g);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d, e, f, g);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d, e, f, g);
+				triggerBatch(EventState.POST, order, length, a, b, c, d, e, f, g);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P7<A,B,C,D,E,F,G>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P7<A,B,C,D,E,F,G>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P7<A,B,C,D,E,F,G> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P7<A,B,C,D,E,F,G>)filter).test(a[element], b[element], c[element], d[element], e[element], f[element], g[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P7<A,B,C,D,E,F,G>> properties = snapshot[index];
+						final Listener.P7<A,B,C,D,E,F,G> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P7<A,B,C,D,E,F,G> filter = (Filter.P7<A,B,C,D,E,F,G>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element], e[element], f[element], g[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d, E e, F f, G g) {
+			return triggerAsync(getExecutor(), a, b, c, d, e, f, g);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d, e, f, g);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d, e, f, g);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d, e, f, g);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, e, f, g, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d, E e, F f, G g) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3), slot.<E>get(4), slot.<F>get(5), slot.<G>get(6));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).set(4, params[4]).set(5, params[5]).set(6, params[6]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P8<EE, A,B,C,D,E,F,G> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P8<EE, A,B,C,D,E,F,G>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P7<A,B,C,D,E,F,G> getRedirectListener(EventState state, Event.P8<EE, A,B,C,D,E,F,G> event, EE emitter) {
+			return (a, b, c, d, e, f, g) -> {
+				event.trigger(state, emitter, a, b, c, d, e, f, g);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P7<A,B,C,D,E,F,G> getFlattenedListener(Event.P8<EE, A,B,C,D,E,F,G> event, ListenerProperties<Listener.P8<EE, A,B,C,D,E,F,G>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c, d, e, f, g) -> {
+					final Listener.P8<EE, A,B,C,D,E,F,G> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c, d, e, f, g);
+				};
+			}
+			
+			return (a, b, c, d, e, f, g) -> {
+				final Listener.P8<EE, A,B,C,D,E,F,G> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P8<EE, A,B,C,D,E,F,G>)properties.getFilter()).test(emitter, a, b, c, d, e, f, g)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c, d, e, f, g);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c, d, e, f, g);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P8<A,B,C,D,E,F,G,H> extends Event <Listener.P8<A,B,C,D,E,F,G,H>, A,B,C,D,E,F,G,H,$> {
+
+		public static <A,B,C,D,E,F,G,H> Event.P8<A,B,C,D,E,F,G,H> create(EventFlag... flags) {
+			return new Event.P8<>(flags);
+		}
+
+		public P8(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P8<A,B,C,D,E,F,G,H> listener, int priority, boolean ignoreCancelled, Filter.P8<A,B,C,D,E,F,G,H> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P8<A,B,C,D,E,F,G,H> listener, int priority, Filter.P8<A,B,C,D,E,F,G,H> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P8<A,B,C,D,E,F,G,H> listener, int priority, Filter.P8<A,B,C,D,E,F,G,H> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		/**
+		 * Binds the listener while the owner is strongly reachable elsewhere, it gets the owner as first argument.
+		 * A method reference such as <code>Owner::onDamage</code> or a lambda not capturing the owner
+		 */
+		public <EE> Subscription bindWeak(EventState state, EE owner, Listener.P9<EE, A,B,C,D,E,F,G,H> listener, int priority, boolean ignoreCancelled) {
+			return bindOwned(state, owner, (reference) -> (a, b, c, d, e, f, g, h) -> {
+				final EE instance = reference.get();
+				if(instance != null) listener.execute(instance, a, b, c, d, e, f, g, h);
+			}, priority, ignoreCancelled);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P9<EE, A,B,C,D,E,F,G,H> listener, int priority) {
+			return bindWeak(EventState.DEFAULT, owner, listener, priority, false);
+		}
+		
+		public <EE> Subscription bindWeak(EE owner, Listener.P9<EE, A,B,C,D,E,F,G,H> listener) {
+			return bindWeak(EventState.DEFAULT, owner, listener, 0, false);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h) {
+			trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d, e, f, g, h);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g, H h) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h);
+				trigger(EventState.POST, a, b, c, d, e, f, g, h);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g).set(7, h).commit();
+			
+			final ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P8<A,B,C,D,E,F,G,H> compiled = compiled(state, snapshot, Listener.P8.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d, e, f, g, h);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d, e, f, g, h);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P8<A,B,C,D,E,F,G,H> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P8<A,B,C,D,E,F,G,H>)filter).test(a, b, c, d, e, f, g, h);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d, e, f, g, h);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d, e, f, g, h);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>>[] snapshot, A a, B b, C c, D d, E e, F f, G g, H h) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P8<A,B,C,D,E,F,G,H> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P8<A,B,C,D,E,F,G,H>)properties.getFilter()).test(a, b, c, d, e, f, g, h)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d, e, f, g, h);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d, e, f, g, h);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g, H[] h) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d, e, f, g, h);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g, H[] h) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d, e, f, g, h);
+				triggerBatch(EventState.POST, order, length, a, b, c, d, e, f, g, h);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).set(7, h[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P8<A,B,C,D,E,F,G,H> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P8<A,B,C,D,E,F,G,H>)filter).test(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).set(7, h[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P8<A,B,C,D,E,F,G,H>> properties = snapshot[index];
+						final Listener.P8<A,B,C,D,E,F,G,H> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P8<A,B,C,D,E,F,G,H> filter = (Filter.P8<A,B,C,D,E,F,G,H>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d, E e, F f, G g, H h) {
+			return triggerAsync(getExecutor(), a, b, c, d, e, f, g, h);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g, H h) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d, e, f, g, h);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g, H h, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, e, f, g, h, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d, E e, F f, G g, H h) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g).set(7, h));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3), slot.<E>get(4), slot.<F>get(5), slot.<G>get(6), slot.<H>get(7));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).set(4, params[4]).set(5, params[5]).set(6, params[6]).set(7, params[7]).commit();
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <EE> void redirect(Event.P9<EE, A,B,C,D,E,F,G,H> event, EE emitter) {
+			super.redirect(event,
+				getRedirectListener(EventState.DEFAULT, event, emitter),
+				getRedirectListener(EventState.PRE, event, emitter),
+				getRedirectListener(EventState.POST, event, emitter),
+				(properties) -> getFlattenedListener(event, (ListenerProperties<Listener.P9<EE, A,B,C,D,E,F,G,H>>)properties, emitter)
+			);
+		}
+		
+		protected <EE> Listener.P8<A,B,C,D,E,F,G,H> getRedirectListener(EventState state, Event.P9<EE, A,B,C,D,E,F,G,H> event, EE emitter) {
+			return (a, b, c, d, e, f, g, h) -> {
+				event.trigger(state, emitter, a, b, c, d, e, f, g, h);
+				if(flags.contains(EventFlag.CANCELLABLE) && this.isCancelled() != event.isCancelled())
+					this.setCancelled(event.isCancelled());
+			};
+		}
+		
+		/**
+		 * Calls a listener of the redirect target from this event's dispatch loop, the target's frame shares this event's cancellation state
+		 */
+		@SuppressWarnings("unchecked")
+		protected <EE> Listener.P8<A,B,C,D,E,F,G,H> getFlattenedListener(Event.P9<EE, A,B,C,D,E,F,G,H> event, ListenerProperties<Listener.P9<EE, A,B,C,D,E,F,G,H>> properties, EE emitter) {
+			if(properties.getFilter() == null && metricsOf(event) == null) {
+				return (a, b, c, d, e, f, g, h) -> {
+					final Listener.P9<EE, A,B,C,D,E,F,G,H> listener = properties.getListener();
+					if(listener == null) return;
+					listener.execute(emitter, a, b, c, d, e, f, g, h);
+				};
+			}
+			
+			return (a, b, c, d, e, f, g, h) -> {
+				final Listener.P9<EE, A,B,C,D,E,F,G,H> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P9<EE, A,B,C,D,E,F,G,H>)properties.getFilter()).test(emitter, a, b, c, d, e, f, g, h)) return;
+				
+				final EventMetrics metrics = metricsOf(event);
+				if(metrics == null) {
+					listener.execute(emitter, a, b, c, d, e, f, g, h);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(emitter, a, b, c, d, e, f, g, h);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			};
+		}
+	}
+
+	public static class P9<A,B,C,D,E,F,G,H,I> extends Event <Listener.P9<A,B,C,D,E,F,G,H,I>, A,B,C,D,E,F,G,H,I> {
+
+		public static <A,B,C,D,E,F,G,H,I> Event.P9<A,B,C,D,E,F,G,H,I> create(EventFlag... flags) {
+			return new Event.P9<>(flags);
+		}
+
+		public P9(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.P9<A,B,C,D,E,F,G,H,I> listener, int priority, boolean ignoreCancelled, Filter.P9<A,B,C,D,E,F,G,H,I> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.P9<A,B,C,D,E,F,G,H,I> listener, int priority, Filter.P9<A,B,C,D,E,F,G,H,I> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.P9<A,B,C,D,E,F,G,H,I> listener, int priority, Filter.P9<A,B,C,D,E,F,G,H,I> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h, i);
+		}
+		
+		public void trigger(A a, B b, C c, D d, E e, F f, G g, H h, I i, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h, i);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b, c, d, e, f, g, h, i);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h, i);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h, i);
+				trigger(EventState.POST, a, b, c, d, e, f, g, h, i);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g).set(7, h).set(8, i).commit();
+			
+			final ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.P9<A,B,C,D,E,F,G,H,I> compiled = compiled(state, snapshot, Listener.P9.class);
+				if(compiled != null) {
+					compiled.execute(a, b, c, d, e, f, g, h, i);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b, c, d, e, f, g, h, i);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.P9<A,B,C,D,E,F,G,H,I> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.P9<A,B,C,D,E,F,G,H,I>)filter).test(a, b, c, d, e, f, g, h, i);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b, c, d, e, f, g, h, i);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b, c, d, e, f, g, h, i);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>>[] snapshot, A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.P9<A,B,C,D,E,F,G,H,I> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.P9<A,B,C,D,E,F,G,H,I>)properties.getFilter()).test(a, b, c, d, e, f, g, h, i)) return;
+				if(metrics == null) {
+					listener.execute(a, b, c, d, e, f, g, h, i);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b, c, d, e, f, g, h, i);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g, H[] h, I[] i) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b, c, d, e, f, g, h, i);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, B[] b, C[] c, D[] d, E[] e, F[] f, G[] g, H[] h, I[] i) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b, c, d, e, f, g, h, i);
+				triggerBatch(EventState.POST, order, length, a, b, c, d, e, f, g, h, i);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).set(7, h[element]).set(8, i[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.P9<A,B,C,D,E,F,G,H,I> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.P9<A,B,C,D,E,F,G,H,I>)filter).test(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).set(2, c[element]).set(3, d[element]).set(4, e[element]).set(5, f[element]).set(6, g[element]).set(7, h[element]).set(8, i[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.P9<A,B,C,D,E,F,G,H,I>> properties = snapshot[index];
+						final Listener.P9<A,B,C,D,E,F,G,H,I> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.P9<A,B,C,D,E,F,G,H,I> filter = (Filter.P9<A,B,C,D,E,F,G,H,I>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element], c[element], d[element], e[element], f[element], g[element], h[element], i[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			return triggerAsync(getExecutor(), a, b, c, d, e, f, g, h, i);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b, c, d, e, f, g, h, i);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b, c, d, e, f, g, h, i);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b, c, d, e, f, g, h, i);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, B b, C c, D d, E e, F f, G g, H h, I i, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, c, d, e, f, g, h, i, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			commit(defer().set(0, a).set(1, b).set(2, c).set(3, d).set(4, e).set(5, f).set(6, g).set(7, h).set(8, i));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.<B>get(1), slot.<C>get(2), slot.<D>get(3), slot.<E>get(4), slot.<F>get(5), slot.<G>get(6), slot.<H>get(7), slot.<I>get(8));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, params[1]).set(2, params[2]).set(3, params[3]).set(4, params[4]).set(5, params[5]).set(6, params[6]).set(7, params[7]).set(8, params[8]).commit();
+		}
+	}
+
+	public static class Int1 extends Event <Listener.Int1, Integer,$,$,$,$,$,$,$,$> {
+
+		public static Event.Int1 create(EventFlag... flags) {
+			return new Event.Int1(flags);
+		}
+
+		public Int1(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.Int1 listener, int priority, boolean ignoreCancelled, Filter.Int1 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.Int1 listener, int priority, Filter.Int1 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.Int1 listener, int priority, Filter.Int1 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(int a) {
+			trigger(EventState.DEFAULT, a);
+		}
+		
+		public void trigger(int a, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, int a) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a);
+				trigger(EventState.POST, a);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).commit();
+			
+			final ListenerProperties<Listener.Int1>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.Int1 compiled = compiled(state, snapshot, Listener.Int1.class);
+				if(compiled != null) {
+					compiled.execute(a);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.Int1> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.Int1 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.Int1)filter).test(a);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.Int1>[] snapshot, int a) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.Int1 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.Int1)properties.getFilter()).test(a)) return;
+				if(metrics == null) {
+					listener.execute(a);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, int[] a) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, int[] a) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a);
+				triggerBatch(EventState.POST, order, length, a);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.Int1>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.Int1> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.Int1 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.Int1)filter).test(a[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.Int1> properties = snapshot[index];
+						final Listener.Int1 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.Int1 filter = (Filter.Int1)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(int a) {
+			return triggerAsync(getExecutor(), a);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(int a) {
+			commit(defer().set(0, a));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getInt(0));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (int) params[0]).commit();
+		}
+	}
+
+	public static class Long1 extends Event <Listener.Long1, Long,$,$,$,$,$,$,$,$> {
+
+		public static Event.Long1 create(EventFlag... flags) {
+			return new Event.Long1(flags);
+		}
+
+		public Long1(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.Long1 listener, int priority, boolean ignoreCancelled, Filter.Long1 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.Long1 listener, int priority, Filter.Long1 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.Long1 listener, int priority, Filter.Long1 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(long a) {
+			trigger(EventState.DEFAULT, a);
+		}
+		
+		public void trigger(long a, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, long a) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a);
+				trigger(EventState.POST, a);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).commit();
+			
+			final ListenerProperties<Listener.Long1>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.Long1 compiled = compiled(state, snapshot, Listener.Long1.class);
+				if(compiled != null) {
+					compiled.execute(a);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.Long1> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.Long1 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.Long1)filter).test(a);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.Long1>[] snapshot, long a) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.Long1 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.Long1)properties.getFilter()).test(a)) return;
+				if(metrics == null) {
+					listener.execute(a);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, long[] a) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, long[] a) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a);
+				triggerBatch(EventState.POST, order, length, a);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.Long1>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.Long1> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.Long1 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.Long1)filter).test(a[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.Long1> properties = snapshot[index];
+						final Listener.Long1 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.Long1 filter = (Filter.Long1)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(long a) {
+			return triggerAsync(getExecutor(), a);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(long a) {
+			commit(defer().set(0, a));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getLong(0));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (long) params[0]).commit();
+		}
+	}
+
+	public static class Double1 extends Event <Listener.Double1, Double,$,$,$,$,$,$,$,$> {
+
+		public static Event.Double1 create(EventFlag... flags) {
+			return new Event.Double1(flags);
+		}
+
+		public Double1(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.Double1 listener, int priority, boolean ignoreCancelled, Filter.Double1 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.Double1 listener, int priority, Filter.Double1 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.Double1 listener, int priority, Filter.Double1 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(double a) {
+			trigger(EventState.DEFAULT, a);
+		}
+		
+		public void trigger(double a, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, double a) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a);
+				trigger(EventState.POST, a);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).commit();
+			
+			final ListenerProperties<Listener.Double1>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.Double1 compiled = compiled(state, snapshot, Listener.Double1.class);
+				if(compiled != null) {
+					compiled.execute(a);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.Double1> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.Double1 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.Double1)filter).test(a);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.Double1>[] snapshot, double a) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.Double1 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.Double1)properties.getFilter()).test(a)) return;
+				if(metrics == null) {
+					listener.execute(a);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, double[] a) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, double[] a) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a);
+				triggerBatch(EventState.POST, order, length, a);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.Double1>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.Double1> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.Double1 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.Double1)filter).test(a[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.Double1> properties = snapshot[index];
+						final Listener.Double1 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.Double1 filter = (Filter.Double1)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(double a) {
+			return triggerAsync(getExecutor(), a);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(double a) {
+			commit(defer().set(0, a));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getDouble(0));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (double) params[0]).commit();
+		}
+	}
+
+	public static class ObjInt2<A> extends Event <Listener.ObjInt2<A>, A,Integer,$,$,$,$,$,$,$> {
+
+		public static <A> Event.ObjInt2<A> create(EventFlag... flags) {
+			return new Event.ObjInt2<>(flags);
+		}
+
+		public ObjInt2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.ObjInt2<A> listener, int priority, boolean ignoreCancelled, Filter.ObjInt2<A> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.ObjInt2<A> listener, int priority, Filter.ObjInt2<A> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.ObjInt2<A> listener, int priority, Filter.ObjInt2<A> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(A a, int b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(A a, int b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, int b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.ObjInt2<A>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.ObjInt2<A> compiled = compiled(state, snapshot, Listener.ObjInt2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.ObjInt2<A>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.ObjInt2<A> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.ObjInt2<A>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.ObjInt2<A>>[] snapshot, A a, int b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.ObjInt2<A> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.ObjInt2<A>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, int[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, int[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.ObjInt2<A>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.ObjInt2<A>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.ObjInt2<A> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.ObjInt2<A>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.ObjInt2<A>> properties = snapshot[index];
+						final Listener.ObjInt2<A> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.ObjInt2<A> filter = (Filter.ObjInt2<A>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, int b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, int b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, int b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, int b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.getInt(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, (int) params[1]).commit();
+		}
+	}
+
+	public static class ObjLong2<A> extends Event <Listener.ObjLong2<A>, A,Long,$,$,$,$,$,$,$> {
+
+		public static <A> Event.ObjLong2<A> create(EventFlag... flags) {
+			return new Event.ObjLong2<>(flags);
+		}
+
+		public ObjLong2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.ObjLong2<A> listener, int priority, boolean ignoreCancelled, Filter.ObjLong2<A> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.ObjLong2<A> listener, int priority, Filter.ObjLong2<A> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.ObjLong2<A> listener, int priority, Filter.ObjLong2<A> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(A a, long b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(A a, long b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, long b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.ObjLong2<A>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.ObjLong2<A> compiled = compiled(state, snapshot, Listener.ObjLong2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.ObjLong2<A>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.ObjLong2<A> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.ObjLong2<A>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.ObjLong2<A>>[] snapshot, A a, long b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.ObjLong2<A> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.ObjLong2<A>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, long[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, long[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.ObjLong2<A>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.ObjLong2<A>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.ObjLong2<A> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.ObjLong2<A>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.ObjLong2<A>> properties = snapshot[index];
+						final Listener.ObjLong2<A> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.ObjLong2<A> filter = (Filter.ObjLong2<A>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, long b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, long b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, long b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, long b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.getLong(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, (long) params[1]).commit();
+		}
+	}
+
+	public static class ObjDouble2<A> extends Event <Listener.ObjDouble2<A>, A,Double,$,$,$,$,$,$,$> {
+
+		public static <A> Event.ObjDouble2<A> create(EventFlag... flags) {
+			return new Event.ObjDouble2<>(flags);
+		}
+
+		public ObjDouble2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.ObjDouble2<A> listener, int priority, boolean ignoreCancelled, Filter.ObjDouble2<A> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.ObjDouble2<A> listener, int priority, Filter.ObjDouble2<A> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.ObjDouble2<A> listener, int priority, Filter.ObjDouble2<A> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(A a, double b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(A a, double b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, A a, double b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.ObjDouble2<A>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.ObjDouble2<A> compiled = compiled(state, snapshot, Listener.ObjDouble2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.ObjDouble2<A>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.ObjDouble2<A> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.ObjDouble2<A>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.ObjDouble2<A>>[] snapshot, A a, double b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.ObjDouble2<A> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.ObjDouble2<A>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, A[] a, double[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, A[] a, double[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.ObjDouble2<A>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.ObjDouble2<A>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.ObjDouble2<A> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.ObjDouble2<A>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.ObjDouble2<A>> properties = snapshot[index];
+						final Listener.ObjDouble2<A> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.ObjDouble2<A> filter = (Filter.ObjDouble2<A>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(A a, double b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, double b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, A a, double b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(A a, double b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.<A>get(0), slot.getDouble(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, params[0]).set(1, (double) params[1]).commit();
+		}
+	}
+
+	public static class IntObj2<B> extends Event <Listener.IntObj2<B>, Integer,B,$,$,$,$,$,$,$> {
+
+		public static <B> Event.IntObj2<B> create(EventFlag... flags) {
+			return new Event.IntObj2<>(flags);
+		}
+
+		public IntObj2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.IntObj2<B> listener, int priority, boolean ignoreCancelled, Filter.IntObj2<B> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.IntObj2<B> listener, int priority, Filter.IntObj2<B> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.IntObj2<B> listener, int priority, Filter.IntObj2<B> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(int a, B b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(int a, B b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, int a, B b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.IntObj2<B>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.IntObj2<B> compiled = compiled(state, snapshot, Listener.IntObj2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.IntObj2<B>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.IntObj2<B> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.IntObj2<B>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.IntObj2<B>>[] snapshot, int a, B b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.IntObj2<B> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.IntObj2<B>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, int[] a, B[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, int[] a, B[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.IntObj2<B>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.IntObj2<B>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.IntObj2<B> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.IntObj2<B>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.IntObj2<B>> properties = snapshot[index];
+						final Listener.IntObj2<B> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.IntObj2<B> filter = (Filter.IntObj2<B>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(int a, B b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, B b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, B b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(int a, B b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getInt(0), slot.<B>get(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (int) params[0]).set(1, params[1]).commit();
+		}
+	}
+
+	public static class IntInt2 extends Event <Listener.IntInt2, Integer,Integer,$,$,$,$,$,$,$> {
+
+		public static Event.IntInt2 create(EventFlag... flags) {
+			return new Event.IntInt2(flags);
+		}
+
+		public IntInt2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.IntInt2 listener, int priority, boolean ignoreCancelled, Filter.IntInt2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.IntInt2 listener, int priority, Filter.IntInt2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.IntInt2 listener, int priority, Filter.IntInt2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(int a, int b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(int a, int b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, int a, int b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.IntInt2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.IntInt2 compiled = compiled(state, snapshot, Listener.IntInt2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.IntInt2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.IntInt2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.IntInt2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.IntInt2>[] snapshot, int a, int b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.IntInt2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.IntInt2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, int[] a, int[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, int[] a, int[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.IntInt2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.IntInt2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.IntInt2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.IntInt2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.IntInt2> properties = snapshot[index];
+						final Listener.IntInt2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.IntInt2 filter = (Filter.IntInt2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(int a, int b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, int b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, int b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(int a, int b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getInt(0), slot.getInt(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (int) params[0]).set(1, (int) params[1]).commit();
+		}
+	}
+
+	public static class IntLong2 extends Event <Listener.IntLong2, Integer,Long,$,$,$,$,$,$,$> {
+
+		public static Event.IntLong2 create(EventFlag... flags) {
+			return new Event.IntLong2(flags);
+		}
+
+		public IntLong2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.IntLong2 listener, int priority, boolean ignoreCancelled, Filter.IntLong2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.IntLong2 listener, int priority, Filter.IntLong2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.IntLong2 listener, int priority, Filter.IntLong2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(int a, long b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(int a, long b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, int a, long b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.IntLong2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.IntLong2 compiled = compiled(state, snapshot, Listener.IntLong2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.IntLong2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.IntLong2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.IntLong2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.IntLong2>[] snapshot, int a, long b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.IntLong2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.IntLong2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, int[] a, long[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, int[] a, long[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.IntLong2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.IntLong2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.IntLong2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.IntLong2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.IntLong2> properties = snapshot[index];
+						final Listener.IntLong2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.IntLong2 filter = (Filter.IntLong2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(int a, long b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, long b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, long b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(int a, long b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getInt(0), slot.getLong(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (int) params[0]).set(1, (long) params[1]).commit();
+		}
+	}
+
+	public static class IntDouble2 extends Event <Listener.IntDouble2, Integer,Double,$,$,$,$,$,$,$> {
+
+		public static Event.IntDouble2 create(EventFlag... flags) {
+			return new Event.IntDouble2(flags);
+		}
+
+		public IntDouble2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.IntDouble2 listener, int priority, boolean ignoreCancelled, Filter.IntDouble2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.IntDouble2 listener, int priority, Filter.IntDouble2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.IntDouble2 listener, int priority, Filter.IntDouble2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(int a, double b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(int a, double b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, int a, double b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.IntDouble2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.IntDouble2 compiled = compiled(state, snapshot, Listener.IntDouble2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.IntDouble2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.IntDouble2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.IntDouble2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.IntDouble2>[] snapshot, int a, double b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.IntDouble2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.IntDouble2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, int[] a, double[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, int[] a, double[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.IntDouble2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.IntDouble2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.IntDouble2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.IntDouble2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.IntDouble2> properties = snapshot[index];
+						final Listener.IntDouble2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.IntDouble2 filter = (Filter.IntDouble2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(int a, double b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, double b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, int a, double b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(int a, double b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getInt(0), slot.getDouble(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (int) params[0]).set(1, (double) params[1]).commit();
+		}
+	}
+
+	public static class LongObj2<B> extends Event <Listener.LongObj2<B>, Long,B,$,$,$,$,$,$,$> {
+
+		public static <B> Event.LongObj2<B> create(EventFlag... flags) {
+			return new Event.LongObj2<>(flags);
+		}
+
+		public LongObj2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.LongObj2<B> listener, int priority, boolean ignoreCancelled, Filter.LongObj2<B> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.LongObj2<B> listener, int priority, Filter.LongObj2<B> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.LongObj2<B> listener, int priority, Filter.LongObj2<B> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(long a, B b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(long a, B b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, long a, B b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.LongObj2<B>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.LongObj2<B> compiled = compiled(state, snapshot, Listener.LongObj2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.LongObj2<B>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.LongObj2<B> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.LongObj2<B>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.LongObj2<B>>[] snapshot, long a, B b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.LongObj2<B> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.LongObj2<B>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, long[] a, B[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, long[] a, B[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.LongObj2<B>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.LongObj2<B>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.LongObj2<B> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.LongObj2<B>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.LongObj2<B>> properties = snapshot[index];
+						final Listener.LongObj2<B> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.LongObj2<B> filter = (Filter.LongObj2<B>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(long a, B b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, B b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, B b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(long a, B b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getLong(0), slot.<B>get(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (long) params[0]).set(1, params[1]).commit();
+		}
+	}
+
+	public static class LongInt2 extends Event <Listener.LongInt2, Long,Integer,$,$,$,$,$,$,$> {
+
+		public static Event.LongInt2 create(EventFlag... flags) {
+			return new Event.LongInt2(flags);
+		}
+
+		public LongInt2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.LongInt2 listener, int priority, boolean ignoreCancelled, Filter.LongInt2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.LongInt2 listener, int priority, Filter.LongInt2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.LongInt2 listener, int priority, Filter.LongInt2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(long a, int b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(long a, int b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, long a, int b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.LongInt2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.LongInt2 compiled = compiled(state, snapshot, Listener.LongInt2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.LongInt2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.LongInt2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.LongInt2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.LongInt2>[] snapshot, long a, int b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.LongInt2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.LongInt2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, long[] a, int[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, long[] a, int[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.LongInt2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.LongInt2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.LongInt2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.LongInt2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.LongInt2> properties = snapshot[index];
+						final Listener.LongInt2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.LongInt2 filter = (Filter.LongInt2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(long a, int b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, int b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, int b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(long a, int b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getLong(0), slot.getInt(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (long) params[0]).set(1, (int) params[1]).commit();
+		}
+	}
+
+	public static class LongLong2 extends Event <Listener.LongLong2, Long,Long,$,$,$,$,$,$,$> {
+
+		public static Event.LongLong2 create(EventFlag... flags) {
+			return new Event.LongLong2(flags);
+		}
+
+		public LongLong2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.LongLong2 listener, int priority, boolean ignoreCancelled, Filter.LongLong2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.LongLong2 listener, int priority, Filter.LongLong2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.LongLong2 listener, int priority, Filter.LongLong2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(long a, long b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(long a, long b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, long a, long b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.LongLong2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.LongLong2 compiled = compiled(state, snapshot, Listener.LongLong2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.LongLong2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.LongLong2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.LongLong2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.LongLong2>[] snapshot, long a, long b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.LongLong2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.LongLong2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, long[] a, long[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, long[] a, long[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.LongLong2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.LongLong2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.LongLong2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.LongLong2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.LongLong2> properties = snapshot[index];
+						final Listener.LongLong2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.LongLong2 filter = (Filter.LongLong2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(long a, long b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, long b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, long b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(long a, long b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getLong(0), slot.getLong(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (long) params[0]).set(1, (long) params[1]).commit();
+		}
+	}
+
+	public static class LongDouble2 extends Event <Listener.LongDouble2, Long,Double,$,$,$,$,$,$,$> {
+
+		public static Event.LongDouble2 create(EventFlag... flags) {
+			return new Event.LongDouble2(flags);
+		}
+
+		public LongDouble2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.LongDouble2 listener, int priority, boolean ignoreCancelled, Filter.LongDouble2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.LongDouble2 listener, int priority, Filter.LongDouble2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.LongDouble2 listener, int priority, Filter.LongDouble2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(long a, double b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(long a, double b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, long a, double b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.LongDouble2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.LongDouble2 compiled = compiled(state, snapshot, Listener.LongDouble2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.LongDouble2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.LongDouble2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.LongDouble2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.LongDouble2>[] snapshot, long a, double b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.LongDouble2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.LongDouble2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, long[] a, double[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, long[] a, double[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.LongDouble2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.LongDouble2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.LongDouble2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.LongDouble2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.LongDouble2> properties = snapshot[index];
+						final Listener.LongDouble2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.LongDouble2 filter = (Filter.LongDouble2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(long a, double b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, double b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, long a, double b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(long a, double b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getLong(0), slot.getDouble(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (long) params[0]).set(1, (double) params[1]).commit();
+		}
+	}
+
+	public static class DoubleObj2<B> extends Event <Listener.DoubleObj2<B>, Double,B,$,$,$,$,$,$,$> {
+
+		public static <B> Event.DoubleObj2<B> create(EventFlag... flags) {
+			return new Event.DoubleObj2<>(flags);
+		}
+
+		public DoubleObj2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.DoubleObj2<B> listener, int priority, boolean ignoreCancelled, Filter.DoubleObj2<B> filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.DoubleObj2<B> listener, int priority, Filter.DoubleObj2<B> filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.DoubleObj2<B> listener, int priority, Filter.DoubleObj2<B> filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(double a, B b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(double a, B b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, double a, B b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.DoubleObj2<B>>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.DoubleObj2<B> compiled = compiled(state, snapshot, Listener.DoubleObj2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.DoubleObj2<B>> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.DoubleObj2<B> listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.DoubleObj2<B>)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.DoubleObj2<B>>[] snapshot, double a, B b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.DoubleObj2<B> listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.DoubleObj2<B>)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, double[] a, B[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, double[] a, B[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.DoubleObj2<B>>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.DoubleObj2<B>> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.DoubleObj2<B> listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.DoubleObj2<B>)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.DoubleObj2<B>> properties = snapshot[index];
+						final Listener.DoubleObj2<B> listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.DoubleObj2<B> filter = (Filter.DoubleObj2<B>)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(double a, B b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, B b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, B b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(double a, B b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getDouble(0), slot.<B>get(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (double) params[0]).set(1, params[1]).commit();
+		}
+	}
+
+	public static class DoubleInt2 extends Event <Listener.DoubleInt2, Double,Integer,$,$,$,$,$,$,$> {
+
+		public static Event.DoubleInt2 create(EventFlag... flags) {
+			return new Event.DoubleInt2(flags);
+		}
+
+		public DoubleInt2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.DoubleInt2 listener, int priority, boolean ignoreCancelled, Filter.DoubleInt2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.DoubleInt2 listener, int priority, Filter.DoubleInt2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.DoubleInt2 listener, int priority, Filter.DoubleInt2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(double a, int b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(double a, int b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, double a, int b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.DoubleInt2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.DoubleInt2 compiled = compiled(state, snapshot, Listener.DoubleInt2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.DoubleInt2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.DoubleInt2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.DoubleInt2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.DoubleInt2>[] snapshot, double a, int b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.DoubleInt2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.DoubleInt2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, double[] a, int[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, double[] a, int[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.DoubleInt2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.DoubleInt2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.DoubleInt2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.DoubleInt2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.DoubleInt2> properties = snapshot[index];
+						final Listener.DoubleInt2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.DoubleInt2 filter = (Filter.DoubleInt2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(double a, int b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, int b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, int b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(double a, int b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getDouble(0), slot.getInt(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (double) params[0]).set(1, (int) params[1]).commit();
+		}
+	}
+
+	public static class DoubleLong2 extends Event <Listener.DoubleLong2, Double,Long,$,$,$,$,$,$,$> {
+
+		public static Event.DoubleLong2 create(EventFlag... flags) {
+			return new Event.DoubleLong2(flags);
+		}
+
+		public DoubleLong2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.DoubleLong2 listener, int priority, boolean ignoreCancelled, Filter.DoubleLong2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.DoubleLong2 listener, int priority, Filter.DoubleLong2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.DoubleLong2 listener, int priority, Filter.DoubleLong2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(double a, long b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(double a, long b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, double a, long b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.DoubleLong2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.DoubleLong2 compiled = compiled(state, snapshot, Listener.DoubleLong2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.DoubleLong2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.DoubleLong2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.DoubleLong2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.DoubleLong2>[] snapshot, double a, long b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.DoubleLong2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.DoubleLong2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, double[] a, long[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, double[] a, long[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.DoubleLong2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.DoubleLong2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.DoubleLong2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.DoubleLong2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.DoubleLong2> properties = snapshot[index];
+						final Listener.DoubleLong2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.DoubleLong2 filter = (Filter.DoubleLong2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(double a, long b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, long b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, long b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(double a, long b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getDouble(0), slot.getLong(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (double) params[0]).set(1, (long) params[1]).commit();
+		}
+	}
+
+	public static class DoubleDouble2 extends Event <Listener.DoubleDouble2, Double,Double,$,$,$,$,$,$,$> {
+
+		public static Event.DoubleDouble2 create(EventFlag... flags) {
+			return new Event.DoubleDouble2(flags);
+		}
+
+		public DoubleDouble2(EventFlag... flags) {
+			super(flags);
+		}
+
+		public Subscription bind(EventState state, Listener.DoubleDouble2 listener, int priority, boolean ignoreCancelled, Filter.DoubleDouble2 filter) {
+			return bindFiltered(state, listener, priority, ignoreCancelled, filter);
+		}
+		
+		public Subscription bind(EventState state, Listener.DoubleDouble2 listener, int priority, Filter.DoubleDouble2 filter) {
+			return bindFiltered(state, listener, priority, false, filter);
+		}
+		
+		public Subscription bind(Listener.DoubleDouble2 listener, int priority, Filter.DoubleDouble2 filter) {
+			return bindFiltered(EventState.DEFAULT, listener, priority, false, filter);
+		}
+		
+		public void trigger(double a, double b) {
+			trigger(EventState.DEFAULT, a, b);
+		}
+		
+		public void trigger(double a, double b, Runnable runnable) {
+			if(flags.contains(EventFlag.CHRONICLED)) {
+				
+				// chronicled schedule
+				trigger(EventState.PRE, a, b);
+				if(!isCancelled()) {
+					runnable.run();
+					trigger(EventState.POST, a, b);
+				}
+			}
+			else if(flags.contains(EventFlag.CANCELLABLE)) {
+				
+				// cancellable schedule
+				trigger(EventState.DEFAULT, a, b);
+				if(!isCancelled())
+					runnable.run();
+			}
+			else throw new UnsupportedOperationException("Event must be either cancellable or chronicled to trigger with a runnable");
+		}
+		
+		@SuppressWarnings("unchecked")
+		public void trigger(EventState state, double a, double b) {
+			if(chronicled(state)) {
+				trigger(EventState.PRE, a, b);
+				trigger(EventState.POST, a, b);
+				return;
+			}
+			
+			if(recorder != null) recorder.begin(state).set(0, a).set(1, b).commit();
+			
+			final ListenerProperties<Listener.DoubleDouble2>[] snapshot = push(state);
+			
+			// last filter tested and its result, shared by the adjacent listeners it guards
+			Object filter = null;
+			boolean passed = true;
+			try {
+				final Listener.DoubleDouble2 compiled = compiled(state, snapshot, Listener.DoubleDouble2.class);
+				if(compiled != null) {
+					compiled.execute(a, b);
+					return;
+				}
+				
+				if(tiered) {
+					triggerTiers(snapshot, a, b);
+					return;
+				}
+				
+				for(int index = 0; index < snapshot.length; index++) {
+					final ListenerProperties<Listener.DoubleDouble2> properties = snapshot[index];
+					if(ignored(properties)) continue;
+					final Listener.DoubleDouble2 listener = properties.getListener();
+					if(listener == null) continue;
+					if(properties.getFilter() != null) {
+						if(properties.getFilter() != filter) {
+							filter = properties.getFilter();
+							passed = ((Filter.DoubleDouble2)filter).test(a, b);
+						}
+						if(!passed) continue;
+					}
+					if(metrics == null) {
+						listener.execute(a, b);
+					}
+					else {
+						final long start = System.nanoTime();
+						listener.execute(a, b);
+						metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+					}
+				}
+			}
+			finally {
+				pop();
+			}
+		}
+		
+		/**
+		 * PARALLEL_TIER trigger, each listener tests its own filter
+		 */
+		@SuppressWarnings("unchecked")
+		private void triggerTiers(ListenerProperties<Listener.DoubleDouble2>[] snapshot, double a, double b) {
+			dispatchTiers(snapshot, (properties) -> {
+				final Listener.DoubleDouble2 listener = properties.getListener();
+				if(listener == null) return;
+				if(properties.getFilter() != null && !((Filter.DoubleDouble2)properties.getFilter()).test(a, b)) return;
+				if(metrics == null) {
+					listener.execute(a, b);
+				}
+				else {
+					final long start = System.nanoTime();
+					listener.execute(a, b);
+					metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+				}
+			});
+		}
+		
+		public BitSet triggerBatch(int length, double[] a, double[] b) {
+			return triggerBatch(EventState.DEFAULT, EventBatchOrder.EVENT_MAJOR, length, a, b);
+		}
+		
+		/**
+		 * Triggers the event once per element of the parallel argument arrays, resolving the listeners once.
+		 * Metrics count a trigger per element. Batches dispatch through the snapshot, COMPILED dispatchers are not used
+		 * @return the indices of the cancelled elements
+		 */
+		@SuppressWarnings("unchecked")
+		public BitSet triggerBatch(EventState state, EventBatchOrder order, int length, double[] a, double[] b) {
+			if(chronicled(state)) {
+				final BitSet results = triggerBatch(EventState.PRE, order, length, a, b);
+				triggerBatch(EventState.POST, order, length, a, b);
+				return results;
+			}
+			
+			final BitSet results = new BitSet(length);
+			final ListenerProperties<Listener.DoubleDouble2>[] snapshot = push(state);
+			final EventStackElement frame = getStackElement();
+			try {
+				if(order == EventBatchOrder.EVENT_MAJOR) {
+					for(int element = 0; element < length; element++) {
+						if(recorder != null) recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+						frame.cancelled = false;
+						Object filter = null;
+						boolean passed = true;
+						for(int index = 0; index < snapshot.length; index++) {
+							final ListenerProperties<Listener.DoubleDouble2> properties = snapshot[index];
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							final Listener.DoubleDouble2 listener = properties.getListener();
+							if(listener == null) continue;
+							if(properties.getFilter() != null) {
+								if(properties.getFilter() != filter) {
+									filter = properties.getFilter();
+									passed = ((Filter.DoubleDouble2)filter).test(a[element], b[element]);
+								}
+								if(!passed) continue;
+							}
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+						}
+						if(frame.cancelled) results.set(element);
+					}
+				}
+				else {
+					
+					// journaled up front, the listeners go through the elements one after another
+					if(recorder != null) {
+						for(int element = 0; element < length; element++)
+							recorder.begin(state).set(0, a[element]).set(1, b[element]).commit();
+					}
+					for(int index = 0; index < snapshot.length; index++) {
+						final ListenerProperties<Listener.DoubleDouble2> properties = snapshot[index];
+						final Listener.DoubleDouble2 listener = properties.getListener();
+						if(listener == null) continue;
+						final Filter.DoubleDouble2 filter = (Filter.DoubleDouble2)properties.getFilter();
+						for(int element = 0; element < length; element++) {
+							frame.cancelled = results.get(element);
+							if(properties.isIgnoreCancelled() && frame.cancelled) continue;
+							if(filter != null && !filter.test(a[element], b[element])) continue;
+							if(metrics == null) {
+								listener.execute(a[element], b[element]);
+							}
+							else {
+								final long start = System.nanoTime();
+								listener.execute(a[element], b[element]);
+								metrics.invoked(properties.getLatencies(), System.nanoTime() - start);
+							}
+							if(frame.cancelled) results.set(element);
+							else results.clear(element);
+						}
+					}
+				}
+			}
+			finally {
+				// elements were counted apart from the trigger itself
+				if(metrics != null) {
+					metrics.batched(length, results.cardinality());
+					frame.cancelled = false;
+				}
+				pop();
+			}
+			return results;
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(double a, double b) {
+			return triggerAsync(getExecutor(), a, b);
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, double b) {
+			return async(executor, () -> {
+				if(!flags.contains(EventFlag.CHRONICLED)) {
+					trigger(EventState.DEFAULT, a, b);
+					return isCancelled();
+				}
+				
+				// chronicled, completes with the PRE cancellation state
+				trigger(EventState.PRE, a, b);
+				final boolean cancelled = isCancelled();
+				trigger(EventState.POST, a, b);
+				return cancelled;
+			});
+		}
+		
+		public CompletableFuture<Boolean> triggerAsync(Executor executor, double a, double b, Runnable runnable) {
+			return async(executor, () -> {
+				trigger(a, b, runnable);
+				return isCancelled();
+			});
+		}
+		
+		/**
+		 * Queues the event on its DeferredEventQueue instead of triggering it, see setQueue(queue)
+		 */
+		public void post(double a, double b) {
+			commit(defer().set(0, a).set(1, b));
+		}
+		
+		@Override
+		protected void dispatch(EventState state, DeferredEventQueue.Slot slot) {
+			trigger(state, slot.getDouble(0), slot.getDouble(1));
+		}
+		
+		@Override
+		protected void record(EventState state, Object[] params) {
+			recorder.begin(state).set(0, (double) params[0]).set(1, (double) params[1]).commit();
+		}
+	}
+}
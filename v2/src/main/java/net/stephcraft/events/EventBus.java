@@ -0,0 +1,164 @@
+package net.stephcraft.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Events keyed by payload class, posting a payload reaches the subscribers of its class, superclasses and interfaces
+ * in priority order. The listeners of each posted class are resolved once into an Event.P1 cached in a ClassValue,
+ * subscribing or unsubscribing outdates them
+ * <pre>
+ * EventBus bus = new EventBus(EventFlag.CANCELLABLE);
+ * bus.subscribe(Damage.class, (damage) -&gt; ...);
+ * bus.post(new FallDamage(entity, 5));
+ * </pre>
+ */
+public class EventBus {
+	
+	private class Subscriber implements Subscription {
+		private final Class<?> type;
+		private final Listener.P1<Object> listener;
+		private final int priority;
+		private final boolean ignoreCancelled;
+		
+		private Subscriber(Class<?> type, Listener.P1<Object> listener, int priority, boolean ignoreCancelled) {
+			this.type = type;
+			this.listener = listener;
+			this.priority = priority;
+			this.ignoreCancelled = ignoreCancelled;
+		}
+		
+		@Override
+		public void cancel() {
+			synchronized(EventBus.this) {
+				if(subscribers.remove(this)) version++;
+			}
+		}
+		
+		@Override
+		public boolean isActive() {
+			synchronized(EventBus.this) {
+				return subscribers.contains(this);
+			}
+		}
+	}
+	
+	// listeners of a posted class, resolved at a version of the subscriptions
+	private static final class Table {
+		private final int version;
+		private final Event.P1<Object> event;
+		
+		private Table(int version, Event.P1<Object> event) {
+			this.version = version;
+			this.event = event;
+		}
+	}
+	
+	private final EventFlag[] flags;
+	
+	// in subscription order, kept within a priority
+	private final List<Subscriber> subscribers;
+	
+	// bumped on subscribe and unsubscribe, outdating every table
+	private volatile int version;
+	
+	private final ClassValue<AtomicReference<Table>> tables = new ClassValue<>() {
+		@Override
+		protected AtomicReference<Table> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	};
+	
+	public EventBus(EventFlag... flags) {
+		for(EventFlag flag : flags) {
+			if(flag == EventFlag.CHRONICLED)
+				throw new UnsupportedOperationException("EventBus cannot be chronicled");
+		}
+		
+		this.flags = flags.clone();
+		this.subscribers = new ArrayList<>();
+	}
+	
+	// --- subscribing ---
+	
+	@SuppressWarnings("unchecked")
+	public synchronized <T> Subscription subscribe(Class<T> type, Listener.P1<? super T> listener, int priority, boolean ignoreCancelled) {
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(listener);
+		
+		final Subscriber subscriber = new Subscriber(type, (Listener.P1<Object>) listener, priority, ignoreCancelled);
+		subscribers.add(subscriber);
+		version++;
+		return subscriber;
+	}
+	
+	public <T> Subscription subscribe(Class<T> type, Listener.P1<? super T> listener, int priority) {
+		return subscribe(type, listener, priority, false);
+	}
+	
+	public <T> Subscription subscribe(Class<T> type, Listener.P1<? super T> listener) {
+		return subscribe(type, listener, 0, false);
+	}
+	
+	public synchronized void unsubscribe() {
+		subscribers.clear();
+		version++;
+	}
+	
+	// --- posting ---
+	
+	/**
+	 * Triggers the subscribers of the payload's class and of its supertypes
+	 * @return if a subscriber cancelled it
+	 */
+	public boolean post(Object payload) {
+		final Event.P1<Object> event = table(payload.getClass());
+		event.trigger(payload);
+		return event.isCancelled();
+	}
+	
+	/**
+	 * Cancels the dispatch of the payload, from one of its subscribers
+	 */
+	public void cancel(Object payload) {
+		setCancelled(payload, true);
+	}
+	
+	public void setCancelled(Object payload, boolean cancelled) {
+		final Table table = tables.get(payload.getClass()).get();
+		if(table == null)
+			throw new UnsupportedOperationException("Payload is not being posted");
+		table.event.setCancelled(cancelled);
+	}
+	
+	/**
+	 * The resolved listeners of a payload class, the hierarchy is only walked after the subscriptions changed
+	 */
+	private Event.P1<Object> table(Class<?> type) {
+		final AtomicReference<Table> reference = tables.get(type);
+		final Table table = reference.get();
+		if(table != null && table.version == version) return table.event;
+		return resolve(type, reference);
+	}
+	
+	private synchronized Event.P1<Object> resolve(Class<?> type, AtomicReference<Table> reference) {
+		final Table table = reference.get();
+		if(table != null && table.version == version) return table.event;
+		
+		// a dispatch of the class in progress keeps its table, changes apply to the posts after it
+		if(table != null && table.event.active()) return table.event;
+		
+		final Event.P1<Object> event = Event.P1.create(flags);
+		for(Subscriber subscriber : subscribers) {
+			if(subscriber.type.isAssignableFrom(type))
+				event.bind(subscriber.listener, subscriber.priority, subscriber.ignoreCancelled);
+		}
+		
+		reference.set(new Table(version, event));
+		return event;
+	}
+}
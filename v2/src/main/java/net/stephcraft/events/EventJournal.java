@@ -0,0 +1,234 @@
+package net.stephcraft.events;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Append-only log of the triggers of recorded events, in a memory mapped file replayable with {@link JournalReplay}.
+ * Each record holds a sequence number, the trigger nanoTime, the event id and state, then its arguments:
+ * primitives as is and objects through the codec given for their parameter. Recording allocates nothing,
+ * a record which does not fit in the remaining capacity or has an object without codec is dropped and counted.
+ * Not thread safe, record from one thread
+ * <pre>
+ * EventJournal journal = new EventJournal(Path.of("session.journal"), 64 &lt;&lt; 20);
+ * journal.record(onChat, 1, JournalCodec.STRING);
+ * </pre>
+ */
+public class EventJournal implements AutoCloseable {
+	
+	// native on x86 and arm, no byte swapping
+	static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+	
+	static final int MAGIC = 0x45564A31; // EVJ1
+	
+	// length, sequence, nanoTime, id, state
+	static final int HEADER = 4 + 8 + 8 + 4 + 1;
+	
+	static final byte OBJECT = 0;
+	static final byte INT = 1;
+	static final byte LONG = 2;
+	static final byte DOUBLE = 3;
+	static final byte BOOLEAN = 4;
+	
+	/**
+	 * Writes the arguments of one trigger, handed out by begin(...) and written by the generated trigger(...)
+	 */
+	public final class Recorder {
+		private final int id;
+		private final JournalCodec<Object>[] codecs;
+		
+		// start of the record being written, -1 once it overflowed
+		private int start = -1;
+		
+		private Recorder(int id, JournalCodec<Object>[] codecs) {
+			this.id = id;
+			this.codecs = codecs;
+		}
+		
+		public Recorder begin(EventState state) {
+			start = buffer.position();
+			try {
+				buffer.putInt(0);
+				buffer.putLong(sequence);
+				buffer.putLong(System.nanoTime());
+				buffer.putInt(id);
+				buffer.put((byte) state.ordinal());
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			return this;
+		}
+		
+		public Recorder set(int index, Object value) {
+			if(start == -1) return this;
+			
+			// recording never fails the trigger, a record it cannot write is dropped
+			if(index >= codecs.length || codecs[index] == null) {
+				drop();
+				return this;
+			}
+			
+			try {
+				buffer.put(OBJECT);
+				codecs[index].write(buffer, value);
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			catch(RuntimeException e) {
+				e.printStackTrace();
+				drop();
+			}
+			return this;
+		}
+		
+		public Recorder set(int index, int value) {
+			if(start == -1) return this;
+			
+			try {
+				buffer.put(INT).putInt(value);
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			return this;
+		}
+		
+		public Recorder set(int index, long value) {
+			if(start == -1) return this;
+			
+			try {
+				buffer.put(LONG).putLong(value);
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			return this;
+		}
+		
+		public Recorder set(int index, double value) {
+			if(start == -1) return this;
+			
+			try {
+				buffer.put(DOUBLE).putDouble(value);
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			return this;
+		}
+		
+		public Recorder set(int index, boolean value) {
+			if(start == -1) return this;
+			
+			try {
+				buffer.put(BOOLEAN).put((byte) (value ? 1 : 0));
+			}
+			catch(BufferOverflowException e) {
+				drop();
+			}
+			return this;
+		}
+		
+		/**
+		 * Writes the record length last, a replay stops at the first record without one.
+		 * The next length is zeroed too, records left from before a clear() are never read past it
+		 */
+		public void commit() {
+			if(start == -1) return;
+			
+			buffer.putInt(start, buffer.position() - start);
+			if(buffer.remaining() >= 4) buffer.putInt(buffer.position(), 0);
+			sequence++;
+			start = -1;
+		}
+		
+		EventJournal getJournal() {
+			return EventJournal.this;
+		}
+		
+		/**
+		 * Drops the record being written, if any
+		 */
+		void drop() {
+			if(start == -1) return;
+			
+			// leaves a zero length behind, the end of the journal unless a later record fits
+			buffer.position(start);
+			if(buffer.remaining() >= 4) buffer.putInt(start, 0);
+			start = -1;
+			dropped++;
+		}
+	}
+	
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	
+	private long sequence;
+	private long dropped;
+	
+	public EventJournal(Path path, int capacity) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+		buffer.order(ORDER);
+		buffer.putInt(MAGIC);
+	}
+	
+	/**
+	 * Records every trigger of the event under this id, codecs by parameter index (null for primitive parameters).
+	 * Redirects into the event trigger it through their listeners again, flattened they would skip its trigger(...)
+	 */
+	@SuppressWarnings("unchecked")
+	public void record(Event<?,?,?,?,?,?,?,?,?,?> event, int id, JournalCodec<?>... codecs) {
+		event.setRecorder(new Recorder(id, (JournalCodec<Object>[]) codecs.clone()));
+	}
+	
+	public void stop(Event<?,?,?,?,?,?,?,?,?,?> event) {
+		if(event.recorder != null && event.recorder.getJournal() == this) event.setRecorder(null);
+	}
+	
+	/**
+	 * Records written so far
+	 */
+	public long size() {
+		return sequence;
+	}
+	
+	/**
+	 * Records dropped once the journal was full, or for an object parameter without codec
+	 */
+	public long dropped() {
+		return dropped;
+	}
+	
+	/**
+	 * Rewinds to the start of the file, dropping every record
+	 */
+	public void clear() {
+		buffer.position(4);
+		buffer.putInt(4, 0);
+		sequence = 0;
+		dropped = 0;
+	}
+	
+	/**
+	 * Forces the records to the file
+	 */
+	public void flush() {
+		buffer.force();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+}
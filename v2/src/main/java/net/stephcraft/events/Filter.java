@@ -0,0 +1,32 @@
+package net.stephcraft.events;
+
+public interface Filter {
+	interface P0 { boolean test(); }
+	interface P1<A> { boolean test(A a); }
+	interface P2<A,B> { boolean test(A a, B b); }
+	interface P3<A,B,C> { boolean test(A a, B b, C c); }
+	interface P4<A,B,C,D> { boolean test(A a, B b, C c, D d); }
+	interface P5<A,B,C,D,E> { boolean test(A a, B b, C c, D d, E e); }
+	interface P6<A,B,C,D,E,F> { boolean test(A a, B b, C c, D d, E e, F f); }
+	interface P7<A,B,C,D,E,F,G> { boolean test(A a, B b, C c, D d, E e, F f, G g); }
+	interface P8<A,B,C,D,E,F,G,H> { boolean test(A a, B b, C c, D d, E e, F f, G g, H h); }
+	interface P9<A,B,C,D,E,F,G,H,I> { boolean test(A a, B b, C c, D d, E e, F f, G g, H h, I i); }
+	interface Int1 { boolean test(int a); }
+	interface Long1 { boolean test(long a); }
+	interface Double1 { boolean test(double a); }
+	interface ObjInt2<A> { boolean test(A a, int b); }
+	interface ObjLong2<A> { boolean test(A a, long b); }
+	interface ObjDouble2<A> { boolean test(A a, double b); }
+	interface IntObj2<B> { boolean test(int a, B b); }
+	interface IntInt2 { boolean test(int a, int b); }
+	interface IntLong2 { boolean test(int a, long b); }
+	interface IntDouble2 { boolean test(int a, double b); }
+	interface LongObj2<B> { boolean test(long a, B b); }
+	interface LongInt2 { boolean test(long a, int b); }
+	interface LongLong2 { boolean test(long a, long b); }
+	interface LongDouble2 { boolean test(long a, double b); }
+	interface DoubleObj2<B> { boolean test(double a, B b); }
+	interface DoubleInt2 { boolean test(double a, int b); }
+	interface DoubleLong2 { boolean test(double a, long b); }
+	interface DoubleDouble2 { boolean test(double a, double b); }
+}
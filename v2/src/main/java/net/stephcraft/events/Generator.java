@@ -6,31 +6,41 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Scanner;
+import java.util.StringJoiner;
 
+/**
+ * Regenerates Listener, Filter and the Event.P0 to Event.P9 classes in place.
+ * Run from the v2 directory with the processor on the classpath, the event template is its resource
+ */
 public class Generator {
 	
-	public static void main(String[] args) {
-		generate();
+	// shared with the annotation processor, the events it generates run the same dispatch code
+	private static final String EVENT_TEMPLATE = "net/stephcraft/events/processor/event.template";
+	private static final String SOURCES = "src/main/java/net/stephcraft/events";
+	private static final String GENERATED = "\t// --- generated ---\n";
+	
+	public static void main(String[] args) throws IOException {
+		generate(new File(args.length > 0 ? args[0] : "."));
 	}
 	
 	public static String loadResourceFile(String name) {
-		String text = "";
+		StringBuilder text = new StringBuilder();
 		
-		try {
-			InputStream inputStream = Generator.class.getClassLoader().getResourceAsStream(name);
-			InputStreamReader streamReader;
-			streamReader = new InputStreamReader(inputStream, "UTF-8");
-			BufferedReader reader = new BufferedReader(streamReader);
+		try(InputStream inputStream = Generator.class.getClassLoader().getResourceAsStream(name)) {
+			if(inputStream == null) throw new FileNotFoundException(name + " is not on the classpath");
+			BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
 			for (String line; (line = reader.readLine()) != null;) {
-				text += line + "\n";
+				text.append(line).append('\n');
 			}
 		}
 		catch (IOException e) {
 			e.printStackTrace();
 		}
 		
-		return text;
+		return text.toString();
 	}
 	
 	public static String loadFile(String path) {
@@ -38,64 +48,216 @@ public class Generator {
 	}
 	
 	public static String loadFile(File file) {
-		String text = "";
+		StringBuilder text = new StringBuilder();
 		
-		try(Scanner reader = new Scanner(file)) {
+		try(Scanner reader = new Scanner(file, StandardCharsets.UTF_8)) {
 			while (reader.hasNextLine()) {
-				String line = reader.nextLine();
-				text += line + "\n";
+				text.append(reader.nextLine()).append('\n');
 			}
 		}
-		catch (FileNotFoundException e) {
+		catch (IOException e) {
 			e.printStackTrace();
 		}
 		
-		return text;
+		return text.toString();
 	}
 	
-	public static void generate() {
+	/**
+	 * Rewrites Listener.java, Filter.java and the classes after the generated marker of Event.java
+	 * @param module the v2 directory, holding the listener and filter templates
+	 */
+	public static void generate(File module) throws IOException {
 		String alpha = "ABCDEFGHI";
-		String functionals = "";
-		String classes = "";
-		String event = loadFile("event.java");
-		String listener = loadFile("listener.java");
+		String event = event();
+		String listener = loadFile(new File(module, "listener.java"));
+		String filter = loadFile(new File(module, "filter.java"));
+		if(event.isEmpty() || listener.isEmpty() || filter.isEmpty())
+			throw new FileNotFoundException("Missing template, run from v2 with the processor on the classpath");
+		
+		StringBuilder functionals = new StringBuilder();
+		StringBuilder filters = new StringBuilder();
+		StringBuilder classes = new StringBuilder();
 		
+		// object arities 0 to 9
 		for(int i=0; i<=alpha.length(); i++) {
-			String dollars = ",_".repeat(alpha.length() - i);
-			String generics = "";
-			String params = "";
-			String inputs = "";
-			for(int j=0; j<i; j++) {
-				boolean last = j == i -1;
-				generics += alpha.charAt(j);
-				params += alpha.charAt(j) + " " + Character.toLowerCase(alpha.charAt(j));
-				inputs += Character.toLowerCase(alpha.charAt(j));
-				if(!last) {
-					generics += ",";
-					params += ", ";
-					inputs += ", ";
+			functionals.append('\t').append(generate(listener, new String[i], alpha).trim()).append('\n');
+			filters.append('\t').append(generate(filter, new String[i], alpha).trim()).append('\n');
+			classes.append(generateEvent(event, new String[i], alpha)).append('\n');
+		}
+		
+		// primitive specializations, every mix of objects and primitives up to 2 parameters
+		String[] kinds = { null, "int", "long", "double" };
+		for(int i=1; i<=2; i++) {
+			for(int combination=0; combination<Math.pow(kinds.length, i); combination++) {
+				String[] signature = new String[i];
+				boolean primitive = false;
+				for(int j=0, rest=combination; j<i; j++, rest/=kinds.length) {
+					signature[i-1-j] = kinds[rest % kinds.length];
+					primitive |= signature[i-1-j] != null;
 				}
+				if(!primitive) continue;
+				
+				functionals.append('\t').append(generate(listener, signature, alpha).trim()).append('\n');
+				filters.append('\t').append(generate(filter, signature, alpha).trim()).append('\n');
+				classes.append(generateEvent(event, signature, alpha)).append('\n');
+			}
+		}
+		
+		File sources = new File(module, SOURCES);
+		write(new File(sources, "Listener.java"), "package net.stephcraft.events;\n\npublic interface Listener {\n" + functionals + "}\n");
+		write(new File(sources, "Filter.java"), "package net.stephcraft.events;\n\npublic interface Filter {\n" + filters + "}\n");
+		
+		File events = new File(sources, "Event.java");
+		String source = loadFile(events);
+		int marker = source.indexOf(GENERATED);
+		if(marker < 0) throw new IOException("No generated marker in " + events);
+		
+		int length = classes.length();
+		while(length > 0 && classes.charAt(length - 1) == '\n') length--;
+		classes.setLength(length);
+		write(events, source.substring(0, marker) + GENERATED + "\n" + classes + "\n}\n");
+	}
+	
+	private static String event() {
+		return loadResourceFile(EVENT_TEMPLATE);
+	}
+	
+	private static void write(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Fills the listener or filter template for one signature, <code>null</code> kinds are generic objects
+	 * and primitive kinds are passed unboxed (named after them, for instance <code>ObjInt2</code>)
+	 */
+	public static String generate(String template, String[] kinds, String alpha) {
+		int i = kinds.length;
+		boolean objects = true;
+		StringBuilder name = new StringBuilder();
+		StringJoiner generics = new StringJoiner(",");
+		StringJoiner params = new StringJoiner(", ");
+		for(int j=0; j<i; j++) {
+			String letter = String.valueOf(alpha.charAt(j));
+			String kind = kinds[j] == null ? letter : kinds[j];
+			
+			if(kinds[j] == null) {
+				generics.add(letter);
+				name.append("Obj");
+			}
+			else {
+				objects = false;
+				name.append(Character.toUpperCase(kind.charAt(0))).append(kind.substring(1));
 			}
 			
-			classes += event
-				.replaceAll("PII", "P" + (i+1))
-				.replaceAll("PI", "P" + i)
-				.replaceAll("GENERICDOLLARS", generics + dollars)
-				.replaceAll("GENERICS", generics)
-				.replaceAll("PARAMS", params)
-				.replaceAll("INPUTS", inputs)
-				.replaceAll("_", "\\$")
-				.replaceAll("<>", i == 0 ? "" : "<>")
-				+ "\n";
+			params.add(kind + " " + letter.toLowerCase());
+		}
+		String type = (objects ? "P" : name) + String.valueOf(i);
+		
+		return template
+			.replace("PI", type)
+			.replace("<GENERICS>", generics.length() == 0 ? "" : "<" + generics + ">")
+			.replace("PARAMS", params.toString());
+	}
+	
+	/**
+	 * Fills the event template for one signature, same placeholders as the annotation processor fills
+	 */
+	public static String generateEvent(String template, String[] kinds, String alpha) {
+		int i = kinds.length;
+		boolean objects = true;
+		StringBuilder names = new StringBuilder();
+		StringBuilder types = new StringBuilder();
+		StringBuilder posts = new StringBuilder();
+		StringBuilder elementPosts = new StringBuilder();
+		StringBuilder paramPosts = new StringBuilder();
+		StringJoiner generics = new StringJoiner(",");
+		StringJoiner params = new StringJoiner(", ");
+		StringJoiner inputs = new StringJoiner(", ");
+		StringJoiner arrays = new StringJoiner(", ");
+		StringJoiner elements = new StringJoiner(", ");
+		StringJoiner deferred = new StringJoiner(", ");
+		for(int j=0; j<i; j++) {
+			String letter = String.valueOf(alpha.charAt(j));
+			String input = letter.toLowerCase();
+			String kind = kinds[j] == null ? letter : kinds[j];
 			
-			functionals += listener
-				.replaceAll("PI", "P" + i)
-				.replaceAll("GENERICS", generics)
-				.replaceAll("PARAMS", params)
-				.replaceAll("INDEX", Integer.toString(i))
-				+ "\n";
+			if(kinds[j] == null) {
+				generics.add(letter);
+				names.append("Obj");
+				types.append(letter).append(',');
+				deferred.add("slot.<" + letter + ">get(" + j + ")");
+			}
+			else {
+				objects = false;
+				String capitalized = Character.toUpperCase(kind.charAt(0)) + kind.substring(1);
+				names.append(capitalized);
+				types.append(boxed(kind)).append(',');
+				deferred.add("slot.get" + capitalized + "(" + j + ")");
+			}
+			
+			params.add(kind + " " + input);
+			inputs.add(input);
+			arrays.add(kind + "[] " + input);
+			elements.add(input + "[element]");
+			posts.append(".set(").append(j).append(", ").append(input).append(')');
+			elementPosts.append(".set(").append(j).append(", ").append(input).append("[element])");
+			paramPosts.append(".set(").append(j).append(", ").append(kinds[j] == null ? "" : "(" + kind + ") ").append("params[").append(j).append("])");
 		}
+		String name = (objects ? "P" : names) + String.valueOf(i);
+		String generic = generics.toString();
+		String type = name + (generic.isEmpty() ? "" : "<" + generic + ">");
+		String next = ".P" + (i+1) + "<EE" + (generic.isEmpty() ? "" : ", " + generic) + ">";
 		
-		System.out.println(functionals + "---\n\n" + classes);
+		// without parameters, drop the separators around the empty lists
+		if(i == 0) {
+			for(String list : new String[] { "%PARAMS%", "%INPUTS%", "%DEFERRED%" })
+				template = template.replace(", " + list, "").replace(list + ", ", "");
+		}
+		
+		// sections only generated for events with parameters, redirects and owned listeners only between object arities
+		template = section(template, "parameters", i > 0);
+		template = section(template, "redirect", objects && i < alpha.length());
+		template = section(template, "owner", objects && i < alpha.length());
+		
+		return template
+			.replace("%EVENT%", "Event")
+			.replace("%SUPERTYPES%", (types + "$,".repeat(alpha.length() - i)).replaceAll(",$", ""))
+			.replace("%NAME%", name)
+			.replace("%TYPE%", type)
+			.replace("%DECLARATION%", generic.isEmpty() ? "" : "<" + generic + "> ")
+			.replace("%DIAMOND%", generic.isEmpty() ? "" : "<>")
+			.replace("%LISTENER%", "Listener." + type)
+			.replace("%RAWLISTENER%", "Listener." + name)
+			.replace("%FILTER%", "Filter." + type)
+			.replace("%NEXTLISTENER%", "Listener" + next)
+			.replace("%NEXTFILTER%", "Filter" + next)
+			.replace("%NEXT%", "Event" + next)
+			.replace("%PARAMS%", params.toString())
+			.replace("%INPUTS%", inputs.toString())
+			.replace("%ARRAYS%", arrays.toString())
+			.replace("%ELEMENTS%", elements.toString())
+			.replace("%POSTS%", posts)
+			.replace("%ELEMENTPOSTS%", elementPosts)
+			.replace("%PARAMPOSTS%", paramPosts)
+			.replace("%DEFERRED%", deferred.toString());
+	}
+	
+	private static String section(String template, String name, boolean keep) {
+		String start = "%[" + name + "]%\n";
+		String end = "%[/" + name + "]%\n";
+		int from = template.indexOf(start);
+		int to = template.indexOf(end);
+		if(from < 0 || to < 0) return template;
+		
+		String content = keep ? template.substring(from + start.length(), to) : "";
+		return template.substring(0, from) + content + template.substring(to + end.length());
+	}
+	
+	private static String boxed(String primitive) {
+		switch(primitive) {
+			case "int": return "Integer";
+			case "char": return "Character";
+			default: return Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+		}
 	}
 }
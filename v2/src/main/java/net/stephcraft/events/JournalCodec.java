@@ -0,0 +1,94 @@
+package net.stephcraft.events;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the object parameters of recorded events into an EventJournal and reads them back on replay.
+ * Writing should not allocate, it runs on every trigger
+ */
+public interface JournalCodec<T> {
+	
+	void write(ByteBuffer buffer, T value);
+	
+	T read(ByteBuffer buffer);
+	
+	/**
+	 * UTF-16 chars, written one by one without encoding
+	 */
+	JournalCodec<String> STRING = new JournalCodec<>() {
+		@Override
+		public void write(ByteBuffer buffer, String value) {
+			if(value == null) {
+				buffer.putInt(-1);
+				return;
+			}
+			
+			buffer.putInt(value.length());
+			for(int index = 0; index < value.length(); index++)
+				buffer.putChar(value.charAt(index));
+		}
+		
+		@Override
+		public String read(ByteBuffer buffer) {
+			final int length = buffer.getInt();
+			if(length == -1) return null;
+			
+			final char[] chars = new char[length];
+			for(int index = 0; index < length; index++)
+				chars[index] = buffer.getChar();
+			return new String(chars);
+		}
+	};
+	
+	JournalCodec<Integer> INTEGER = new JournalCodec<>() {
+		@Override
+		public void write(ByteBuffer buffer, Integer value) {
+			buffer.put((byte)(value == null ? 0 : 1));
+			if(value != null) buffer.putInt(value);
+		}
+		
+		@Override
+		public Integer read(ByteBuffer buffer) {
+			return buffer.get() == 0 ? null : buffer.getInt();
+		}
+	};
+	
+	JournalCodec<Long> LONG = new JournalCodec<>() {
+		@Override
+		public void write(ByteBuffer buffer, Long value) {
+			buffer.put((byte)(value == null ? 0 : 1));
+			if(value != null) buffer.putLong(value);
+		}
+		
+		@Override
+		public Long read(ByteBuffer buffer) {
+			return buffer.get() == 0 ? null : buffer.getLong();
+		}
+	};
+	
+	JournalCodec<Double> DOUBLE = new JournalCodec<>() {
+		@Override
+		public void write(ByteBuffer buffer, Double value) {
+			buffer.put((byte)(value == null ? 0 : 1));
+			if(value != null) buffer.putDouble(value);
+		}
+		
+		@Override
+		public Double read(ByteBuffer buffer) {
+			return buffer.get() == 0 ? null : buffer.getDouble();
+		}
+	};
+	
+	JournalCodec<Boolean> BOOLEAN = new JournalCodec<>() {
+		@Override
+		public void write(ByteBuffer buffer, Boolean value) {
+			buffer.put((byte)(value == null ? 0 : value ? 2 : 1));
+		}
+		
+		@Override
+		public Boolean read(ByteBuffer buffer) {
+			final byte value = buffer.get();
+			return value == 0 ? null : value == 2;
+		}
+	};
+}
@@ -0,0 +1,151 @@
+package net.stephcraft.events;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import net.stephcraft.events.settings.EventReplaySpeed;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Replays an {@link EventJournal} into the events bound by id, usually a fresh graph (a test, a server reproducing a session).
+ * Records are read in place from the mapped file, only the objects decoded by the codecs are allocated
+ * <pre>
+ * try(JournalReplay replay = new JournalReplay(Path.of("session.journal"))) {
+ *     replay.bind(1, onChat, JournalCodec.STRING);
+ *     replay.replay(EventReplaySpeed.UNLIMITED);
+ * }
+ * </pre>
+ */
+public class JournalReplay implements AutoCloseable {
+	
+	private static final EventState[] STATES = EventState.values();
+	
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	
+	// by id
+	private Event<?,?,?,?,?,?,?,?,?,?>[] events = new Event<?,?,?,?,?,?,?,?,?,?>[0];
+	private JournalCodec<?>[][] codecs = new JournalCodec<?>[0][];
+	
+	private final DeferredEventQueue.Slot slot = new DeferredEventQueue.Slot();
+	
+	public JournalReplay(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		buffer.order(EventJournal.ORDER);
+		
+		if(buffer.remaining() < 4 || buffer.getInt(0) != EventJournal.MAGIC) {
+			channel.close();
+			throw new IOException(path + " is not an event journal");
+		}
+	}
+	
+	/**
+	 * Triggers the records of this id on the event, codecs by parameter index as given when recording
+	 */
+	public void bind(int id, Event<?,?,?,?,?,?,?,?,?,?> event, JournalCodec<?>... codecs) {
+		if(id < 0) throw new IllegalArgumentException("Journal ids are positive");
+		
+		if(id >= events.length) {
+			events = Arrays.copyOf(events, id + 1);
+			this.codecs = Arrays.copyOf(this.codecs, id + 1);
+		}
+		events[id] = event;
+		this.codecs[id] = codecs.clone();
+	}
+	
+	/**
+	 * Triggers every record of the journal, records of unbound ids are skipped.
+	 * Stops at the first record without length or not following the previous one in sequence
+	 * @return the amount of records triggered
+	 */
+	public long replay(EventReplaySpeed speed) {
+		final ByteBuffer view = buffer.duplicate().order(EventJournal.ORDER);
+		view.position(4);
+		
+		long triggered = 0;
+		long first = 0;
+		long start = 0;
+		long sequence = 0;
+		
+		while(view.remaining() >= EventJournal.HEADER) {
+			final int offset = view.position();
+			final int length = view.getInt(offset);
+			if(length < EventJournal.HEADER || length > view.remaining()) break;
+			if(view.getLong(offset + 4) != sequence++) break;
+			if(view.get(offset + EventJournal.HEADER - 1) >= STATES.length) break;
+			
+			// the record alone, the codecs can not read past it
+			final ByteBuffer record = view.slice().order(EventJournal.ORDER).limit(length);
+			view.position(offset + length);
+			
+			record.position(4 + 8);
+			final long time = record.getLong();
+			final int id = record.getInt();
+			final EventState state = STATES[record.get()];
+			
+			if(id < 0 || id >= events.length || events[id] == null) continue;
+			
+			if(speed == EventReplaySpeed.RECORDED) {
+				if(triggered == 0) {
+					first = time;
+					start = System.nanoTime();
+				}
+				else {
+					final long wait = (time - first) - (System.nanoTime() - start);
+					if(wait > 0) LockSupport.parkNanos(wait);
+				}
+			}
+			
+			read(record, codecs[id]);
+			slot.event = events[id];
+			try {
+				slot.event.dispatch(state, slot);
+			}
+			catch(Exception e) {
+				e.printStackTrace();
+			}
+			slot.clear();
+			triggered++;
+		}
+		
+		return triggered;
+	}
+	
+	private void read(ByteBuffer record, JournalCodec<?>[] codecs) {
+		for(int index = 0; record.hasRemaining(); index++) {
+			switch(record.get()) {
+				case EventJournal.OBJECT:
+					if(index >= codecs.length || codecs[index] == null)
+						throw new UnsupportedOperationException("No journal codec for parameter " + index);
+					slot.set(index, codecs[index].read(record));
+					break;
+				case EventJournal.INT:
+					slot.set(index, record.getInt());
+					break;
+				case EventJournal.LONG:
+					slot.set(index, record.getLong());
+					break;
+				case EventJournal.DOUBLE:
+					slot.set(index, record.getDouble());
+					break;
+				case EventJournal.BOOLEAN:
+					slot.set(index, record.get() != 0);
+					break;
+				default:
+					throw new UnsupportedOperationException("Corrupted journal record");
+			}
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,187 @@
+package net.stephcraft.events;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Event partitioned by key (an entity, a chunk...): one Event.PN per key holding the listeners bound under
+ * that key plus the wildcard ones, merged in priority order. Triggering a key only reaches its listeners
+ * <pre>
+ * KeyedEvent&lt;Entity, Listener.P2&lt;Entity, Integer&gt;, Event.P2&lt;Entity, Integer&gt;&gt; onDamage = KeyedEvent.create(Event.P2::create);
+ * onDamage.bind(zombie, (entity, damage) -&gt; ...);
+ * onDamage.get(zombie).trigger(zombie, 5);
+ * </pre>
+ */
+public class KeyedEvent <K, L, E extends Event<L,?,?,?,?,?,?,?,?,?>> {
+
+	private class Wildcard implements Subscription {
+		private final EventState state;
+		private final L listener;
+		private final int priority;
+		private final boolean ignoreCancelled;
+
+		// the binding in each partition, cancelled by the wildcard so bindings of the same listener under a key stay
+		private final Map<E, Subscription> subscriptions;
+
+		private Wildcard(EventState state, L listener, int priority, boolean ignoreCancelled) {
+			this.state = state;
+			this.listener = listener;
+			this.priority = priority;
+			this.ignoreCancelled = ignoreCancelled;
+			this.subscriptions = new HashMap<>();
+		}
+
+		private void bind(E partition) {
+			subscriptions.put(partition, partition.bind(state, listener, priority, ignoreCancelled));
+		}
+
+		@Override
+		public void cancel() {
+			synchronized(KeyedEvent.this) {
+				if(!wildcards.remove(this)) return;
+
+				for(Subscription subscription : subscriptions.values())
+					subscription.cancel();
+				subscriptions.clear();
+			}
+		}
+
+		@Override
+		public boolean isActive() {
+			return wildcards.contains(this);
+		}
+	}
+
+	private final Function<EventFlag[], E> factory;
+	private final EventFlag[] flags;
+
+	private final Map<K, E> partitions;
+	private final List<Wildcard> wildcards;
+
+	// triggered for keys without listeners of their own, holds the wildcard listeners only
+	private final E none;
+
+	public KeyedEvent(Function<EventFlag[], E> factory, EventFlag... flags) {
+		this.factory = factory;
+		this.flags = flags.clone();
+		this.none = factory.apply(this.flags);
+
+		boolean concurrent = none.hasFlag(EventFlag.CONCURRENT);
+		this.partitions = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+		this.wildcards = concurrent ? new CopyOnWriteArrayList<>() : new ArrayList<>();
+	}
+
+	public static <K, L, E extends Event<L,?,?,?,?,?,?,?,?,?>> KeyedEvent<K, L, E> create(Function<EventFlag[], E> factory, EventFlag... flags) {
+		return new KeyedEvent<>(factory, flags);
+	}
+
+	/**
+	 * The event to trigger for this key, a single hash lookup
+	 */
+	public E get(K key) {
+		final E partition = partitions.get(key);
+		return partition != null ? partition : none;
+	}
+
+	// --- binding ---
+
+	public synchronized Subscription bind(K key, EventState state, L listener, int priority, boolean ignoreCancelled) {
+		return partition(key).bind(state, listener, priority, ignoreCancelled);
+	}
+
+	public Subscription bind(K key, EventState state, L listener) {
+		return bind(key, state, listener, 0, false);
+	}
+
+	public Subscription bind(K key, L listener, int priority, boolean ignoreCancelled) {
+		return bind(key, EventState.DEFAULT, listener, priority, ignoreCancelled);
+	}
+
+	public Subscription bind(K key, L listener, int priority) {
+		return bind(key, EventState.DEFAULT, listener, priority, false);
+	}
+
+	public Subscription bind(K key, L listener) {
+		return bind(key, EventState.DEFAULT, listener, 0, false);
+	}
+
+	/**
+	 * Binds a listener to every key, present and future
+	 */
+	public synchronized Subscription bindAny(EventState state, L listener, int priority, boolean ignoreCancelled) {
+		Wildcard wildcard = new Wildcard(state, listener, priority, ignoreCancelled);
+		wildcard.bind(none);
+		for(E partition : partitions.values())
+			wildcard.bind(partition);
+
+		wildcards.add(wildcard);
+		return wildcard;
+	}
+
+	public Subscription bindAny(EventState state, L listener) {
+		return bindAny(state, listener, 0, false);
+	}
+
+	public Subscription bindAny(L listener, int priority, boolean ignoreCancelled) {
+		return bindAny(EventState.DEFAULT, listener, priority, ignoreCancelled);
+	}
+
+	public Subscription bindAny(L listener, int priority) {
+		return bindAny(EventState.DEFAULT, listener, priority, false);
+	}
+
+	public Subscription bindAny(L listener) {
+		return bindAny(EventState.DEFAULT, listener, 0, false);
+	}
+
+	public synchronized void unbind(K key, L listener) {
+		final E partition = partitions.get(key);
+		if(partition != null) partition.unbind(listener);
+	}
+
+	public boolean bound(K key, L listener) {
+		final E partition = partitions.get(key);
+		return partition != null && partition.bound(listener);
+	}
+
+	/**
+	 * Drops the key with all of its listeners, to call once the key (an entity...) is gone
+	 */
+	public synchronized void remove(K key) {
+		final E partition = partitions.remove(key);
+		if(partition == null) return;
+
+		partition.unbind();
+		for(Wildcard wildcard : wildcards)
+			wildcard.subscriptions.remove(partition);
+	}
+
+	public synchronized void unbind() {
+		wildcards.clear();
+		none.unbind();
+		for(E partition : partitions.values())
+			partition.unbind();
+		partitions.clear();
+	}
+
+	private E partition(K key) {
+		E partition = partitions.get(key);
+		if(partition != null) return partition;
+
+		// a new key starts with the wildcard listeners, in their binding order
+		partition = factory.apply(flags);
+		for(Wildcard wildcard : wildcards)
+			wildcard.bind(partition);
+
+		partitions.put(key, partition);
+		return partition;
+	}
+}
@@ -11,4 +11,22 @@ public interface Listener {
 	interface P7<A,B,C,D,E,F,G> { void execute(A a, B b, C c, D d, E e, F f, G g); }
 	interface P8<A,B,C,D,E,F,G,H> { void execute(A a, B b, C c, D d, E e, F f, G g, H h); }
 	interface P9<A,B,C,D,E,F,G,H,I> { void execute(A a, B b, C c, D d, E e, F f, G g, H h, I i); }
+	interface Int1 { void execute(int a); }
+	interface Long1 { void execute(long a); }
+	interface Double1 { void execute(double a); }
+	interface ObjInt2<A> { void execute(A a, int b); }
+	interface ObjLong2<A> { void execute(A a, long b); }
+	interface ObjDouble2<A> { void execute(A a, double b); }
+	interface IntObj2<B> { void execute(int a, B b); }
+	interface IntInt2 { void execute(int a, int b); }
+	interface IntLong2 { void execute(int a, long b); }
+	interface IntDouble2 { void execute(int a, double b); }
+	interface LongObj2<B> { void execute(long a, B b); }
+	interface LongInt2 { void execute(long a, int b); }
+	interface LongLong2 { void execute(long a, long b); }
+	interface LongDouble2 { void execute(long a, double b); }
+	interface DoubleObj2<B> { void execute(double a, B b); }
+	interface DoubleInt2 { void execute(double a, int b); }
+	interface DoubleLong2 { void execute(double a, long b); }
+	interface DoubleDouble2 { void execute(double a, double b); }
 }
@@ -0,0 +1,15 @@
+package net.stephcraft.events;
+
+/**
+ * Handle of one binding, returned by Event.bind(...) and Event.bindWeak(...)
+ */
+public interface Subscription {
+	
+	/**
+	 * Unbinds in constant time, the listener is skipped by triggers right away
+	 * and removed from the event on its next bind, unbind or purge
+	 */
+	void cancel();
+	
+	boolean isActive();
+}
@@ -0,0 +1,43 @@
+package net.stephcraft.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Subscriptions cancelled together, for instance every binding of an entity across many events
+ */
+public class SubscriptionGroup implements Subscription {
+	private final List<Subscription> subscriptions;
+	
+	public SubscriptionGroup() {
+		this.subscriptions = new ArrayList<>();
+	}
+	
+	public <S extends Subscription> S add(S subscription) {
+		subscriptions.add(subscription);
+		return subscription;
+	}
+	
+	/**
+	 * Cancels every subscription of the group, the group can be reused afterwards
+	 */
+	@Override
+	public void cancel() {
+		for(Subscription subscription : subscriptions)
+			subscription.cancel();
+		subscriptions.clear();
+	}
+	
+	@Override
+	public boolean isActive() {
+		for(Subscription subscription : subscriptions) {
+			if(subscription.isActive()) return true;
+		}
+		
+		return false;
+	}
+	
+	public int size() {
+		return subscriptions.size();
+	}
+}
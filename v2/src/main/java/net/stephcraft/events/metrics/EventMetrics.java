@@ -0,0 +1,175 @@
+package net.stephcraft.events.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters of an event created with <code>EventFlag.METRICS</code>, recorded by the event itself while dispatching.
+ * A trigger is one dispatch (chronicled triggers count PRE and POST, a batch counts each element),
+ * execution times are kept per bound listener and dropped once its last binding is unbound
+ */
+public class EventMetrics implements EventMetricsMXBean {
+	private final LongAdder triggers;
+	private final LongAdder invocations;
+	private final LongAdder cancellations;
+	private final AtomicInteger maxDepth;
+	private final Map<Object, Latencies> latencies;
+	
+	private volatile ObjectName name;
+	
+	public EventMetrics() {
+		this.triggers = new LongAdder();
+		this.invocations = new LongAdder();
+		this.cancellations = new LongAdder();
+		this.maxDepth = new AtomicInteger();
+		this.latencies = new ConcurrentHashMap<>();
+	}
+	
+	// --- recording ---
+	
+	public void triggered(int depth) {
+		triggers.increment();
+		if(depth > maxDepth.get())
+			maxDepth.accumulateAndGet(depth, Math::max);
+	}
+	
+	public void cancelled() {
+		cancellations.increment();
+	}
+	
+	/**
+	 * A batch triggered once for all its elements, counted as a trigger per element
+	 */
+	public void batched(int elements, int cancelled) {
+		triggers.add(elements - 1);
+		cancellations.add(cancelled);
+	}
+	
+	public void invoked(Histogram latencies, long nanos) {
+		invocations.increment();
+		
+		// null for listeners flattened in from a redirect target, timed by the target
+		if(latencies != null) latencies.record(nanos);
+	}
+	
+	/**
+	 * The histogram of the listener, shared by all its bindings (a listener can be bound to several states)
+	 */
+	public Histogram bound(Object listener) {
+		return latencies.compute(listener, (key, latencies) -> {
+			if(latencies == null) latencies = new Latencies();
+			latencies.bindings++;
+			return latencies;
+		}).histogram;
+	}
+	
+	/**
+	 * Called once per binding, the histogram is dropped with the last one
+	 */
+	public void unbound(Object listener) {
+		latencies.computeIfPresent(listener, (key, latencies) -> --latencies.bindings == 0 ? null : latencies);
+	}
+	
+	public void unbound() {
+		latencies.clear();
+	}
+	
+	// --- reading ---
+	
+	@Override
+	public long getTriggers() {
+		return triggers.sum();
+	}
+	
+	@Override
+	public long getInvocations() {
+		return invocations.sum();
+	}
+	
+	@Override
+	public long getCancellations() {
+		return cancellations.sum();
+	}
+	
+	@Override
+	public double getCancellationRate() {
+		final long triggers = getTriggers();
+		return triggers == 0 ? 0 : (double) getCancellations() / triggers;
+	}
+	
+	@Override
+	public int getMaxDepth() {
+		return maxDepth.get();
+	}
+	
+	/**
+	 * Execution times of the bound listeners, named after their toString()
+	 * (weakly bound ones are keyed by their reference, skipped once collected)
+	 */
+	@Override
+	public Map<String, Histogram.Snapshot> getListeners() {
+		Map<String, Histogram.Snapshot> listeners = new LinkedHashMap<>();
+		latencies.forEach((key, latencies) -> {
+			Object listener = key instanceof Reference ? ((Reference<?>) key).get() : key;
+			if(listener == null) return;
+			
+			String name = String.valueOf(listener);
+			if(listeners.containsKey(name))
+				name += "@" + Integer.toHexString(System.identityHashCode(listener));
+			listeners.put(name, latencies.histogram.snapshot());
+		});
+		return listeners;
+	}
+	
+	@Override
+	public void reset() {
+		triggers.reset();
+		invocations.reset();
+		cancellations.reset();
+		maxDepth.set(0);
+		latencies.values().forEach((latencies) -> latencies.histogram.reset());
+	}
+	
+	// --- jmx ---
+	
+	/**
+	 * Exposes these metrics as net.stephcraft.events:type=Event,name=[name] on the platform MBean server
+	 */
+	public void register(String name) {
+		try {
+			ObjectName objectName = new ObjectName("net.stephcraft.events:type=Event,name=" + ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			this.name = objectName;
+		}
+		catch(JMException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public void unregister() {
+		final ObjectName name = this.name;
+		if(name == null) return;
+		
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+			this.name = null;
+		}
+		catch(JMException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	// execution times of a listener and the number of its bindings
+	private static final class Latencies {
+		private final Histogram histogram = new Histogram();
+		private int bindings;
+	}
+}
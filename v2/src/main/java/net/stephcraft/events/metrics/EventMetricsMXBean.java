@@ -0,0 +1,16 @@
+package net.stephcraft.events.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link EventMetrics}, durations in nanoseconds
+ */
+public interface EventMetricsMXBean {
+	long getTriggers();
+	long getInvocations();
+	long getCancellations();
+	double getCancellationRate();
+	int getMaxDepth();
+	Map<String, Histogram.Snapshot> getListeners();
+	void reset();
+}
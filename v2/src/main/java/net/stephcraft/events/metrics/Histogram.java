@@ -0,0 +1,115 @@
+package net.stephcraft.events.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of nanosecond durations in power of two buckets, fixed memory whatever the number of records.
+ * Bucket 0 counts 0, bucket n counts [2^(n-1), 2^n)
+ */
+public class Histogram {
+	public static final int BUCKETS = 64;
+	
+	private final AtomicLongArray buckets;
+	private final AtomicLong total;
+	private final AtomicLong max;
+	
+	public Histogram() {
+		this.buckets = new AtomicLongArray(BUCKETS);
+		this.total = new AtomicLong();
+		this.max = new AtomicLong();
+	}
+	
+	public void record(long nanos) {
+		if(nanos < 0) nanos = 0;
+		
+		buckets.getAndIncrement(BUCKETS - Long.numberOfLeadingZeros(nanos));
+		total.getAndAdd(nanos);
+		if(nanos > max.get())
+			max.accumulateAndGet(nanos, Math::max);
+	}
+	
+	public void reset() {
+		for(int bucket = 0; bucket < BUCKETS; bucket++)
+			buckets.set(bucket, 0);
+		total.set(0);
+		max.set(0);
+	}
+	
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for(int bucket = 0; bucket < BUCKETS; bucket++)
+			counts[bucket] = buckets.get(bucket);
+		
+		return new Snapshot(counts, total.get(), max.get());
+	}
+	
+	/**
+	 * Copy of the buckets at one point in time, percentiles are bucket upper bounds (at most 2x the real value)
+	 */
+	public static class Snapshot {
+		private final long[] buckets;
+		private final long count;
+		private final long total;
+		private final long max;
+		
+		private Snapshot(long[] buckets, long total, long max) {
+			long count = 0;
+			for(long bucket : buckets) count += bucket;
+			
+			this.buckets = buckets;
+			this.count = count;
+			this.total = total;
+			this.max = max;
+		}
+		
+		public long getCount() {
+			return count;
+		}
+		
+		public long getTotal() {
+			return total;
+		}
+		
+		public long getMax() {
+			return max;
+		}
+		
+		public double getMean() {
+			return count == 0 ? 0 : (double) total / count;
+		}
+		
+		public long getP50() {
+			return getPercentile(0.5);
+		}
+		
+		public long getP90() {
+			return getPercentile(0.9);
+		}
+		
+		public long getP99() {
+			return getPercentile(0.99);
+		}
+		
+		public long getPercentile(double percentile) {
+			if(count == 0) return 0;
+			
+			long rank = (long) Math.ceil(percentile * count);
+			long seen = 0;
+			for(int bucket = 0; bucket < BUCKETS; bucket++) {
+				seen += buckets[bucket];
+				if(seen >= rank && seen > 0) return Math.min(upperBound(bucket), max);
+			}
+			
+			return max;
+		}
+		
+		public long[] getBuckets() {
+			return buckets.clone();
+		}
+		
+		private static long upperBound(int bucket) {
+			return bucket == 0 ? 0 : bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package net.stephcraft.events.pipeline;
+
+/**
+ * What a producer does when the pipeline is full
+ */
+public enum Backpressure {
+	BLOCK,
+	DROP_NEWEST,
+	DROP_OLDEST
+}
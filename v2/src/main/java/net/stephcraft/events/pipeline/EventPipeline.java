@@ -0,0 +1,578 @@
+package net.stephcraft.events.pipeline;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import net.stephcraft.events.Event;
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Bounded ring buffer between producer threads and consumer threads triggering an event.
+ * Slots and their argument arrays are preallocated and reused, publishing allocates nothing.
+ * Each published event is dispatched by exactly one consumer, in the listeners priority order.
+ */
+public abstract class EventPipeline implements AutoCloseable {
+	
+	protected static final class Slot {
+		
+		// position + 1 once published, position + capacity once consumed (free for the next lap)
+		private volatile long sequence;
+		private long position;
+		protected final Object[] arguments;
+		
+		private Slot(long sequence, int arity) {
+			this.sequence = sequence;
+			this.arguments = new Object[arity];
+		}
+	}
+	
+	private final Slot[] slots;
+	private final int mask;
+	private final AtomicLong head;
+	private final AtomicLong tail;
+	private final AtomicLong dropped;
+	
+	private final WaitStrategy waitStrategy;
+	private final Backpressure backpressure;
+	private final Thread[] consumers;
+	private volatile boolean closed;
+	
+	// producers past their closed check and not yet committed, the consumers wait for them before stopping
+	private final AtomicInteger producing;
+	
+	protected EventPipeline(Event<?,?,?,?,?,?,?,?,?,?> event, int arity, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+		if(capacity < 1 || Integer.bitCount(capacity) != 1)
+			throw new IllegalArgumentException("Pipeline capacity must be a power of two");
+		if(consumers < 1)
+			throw new IllegalArgumentException("Pipeline must have at least one consumer");
+		if(consumers > 1 && !event.hasFlag(EventFlag.CONCURRENT))
+			throw new UnsupportedOperationException("Event must be concurrent to be consumed by multiple threads");
+		
+		this.slots = new Slot[capacity];
+		for(int index = 0; index < capacity; index++)
+			slots[index] = new Slot(index, arity);
+		
+		this.mask = capacity - 1;
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+		this.dropped = new AtomicLong();
+		this.waitStrategy = waitStrategy;
+		this.backpressure = backpressure;
+		this.consumers = new Thread[consumers];
+		this.producing = new AtomicInteger();
+	}
+	
+	protected void start() {
+		for(int index = 0; index < consumers.length; index++) {
+			consumers[index] = new Thread(this::consume, "event-pipeline-consumer-" + index);
+			consumers[index].setDaemon(true);
+			consumers[index].start();
+		}
+	}
+	
+	protected abstract void dispatch(Object[] arguments);
+	
+	// --- producing ---
+	
+	/**
+	 * Claims the next free slot, applying the backpressure policy when full
+	 * @return the slot to write the arguments into, null if the event got dropped
+	 */
+	protected Slot claim() {
+		producing.incrementAndGet();
+		if(closed) {
+			producing.decrementAndGet();
+			throw new IllegalStateException("Pipeline is closed");
+		}
+		
+		for(;;) {
+			final long position = head.get();
+			final Slot slot = slots[(int) position & mask];
+			final long difference = slot.sequence - position;
+			
+			if(difference == 0) {
+				if(head.compareAndSet(position, position + 1)) {
+					slot.position = position;
+					return slot;
+				}
+			}
+			else if(difference < 0) {
+				
+				// full
+				switch(backpressure) {
+					case DROP_NEWEST:
+						dropped.incrementAndGet();
+						producing.decrementAndGet();
+						return null;
+					case DROP_OLDEST:
+						final Slot oldest = poll();
+						if(oldest != null) {
+							release(oldest);
+							dropped.incrementAndGet();
+						}
+						break;
+					default:
+						idle();
+						break;
+				}
+			}
+		}
+	}
+	
+	protected void commit(Slot slot) {
+		slot.sequence = slot.position + 1;
+		producing.decrementAndGet();
+	}
+	
+	// --- consuming ---
+	
+	private Slot poll() {
+		for(;;) {
+			final long position = tail.get();
+			final Slot slot = slots[(int) position & mask];
+			final long difference = slot.sequence - (position + 1);
+			
+			if(difference == 0) {
+				if(tail.compareAndSet(position, position + 1)) {
+					slot.position = position;
+					return slot;
+				}
+			}
+			else if(difference < 0) return null; // empty
+		}
+	}
+	
+	private void release(Slot slot) {
+		Arrays.fill(slot.arguments, null);
+		slot.sequence = slot.position + slots.length;
+	}
+	
+	private void consume() {
+		for(;;) {
+			final Slot slot = poll();
+			
+			if(slot == null) {
+				
+				// drained, nothing left nor coming
+				if(closed && producing.get() == 0 && tail.get() == head.get()) return;
+				idle();
+				continue;
+			}
+			
+			try {
+				dispatch(slot.arguments);
+			}
+			catch(Throwable e) {
+				e.printStackTrace();
+			}
+			finally {
+				release(slot);
+			}
+		}
+	}
+	
+	private void idle() {
+		switch(waitStrategy) {
+			case BUSY_SPIN: Thread.onSpinWait(); break;
+			case YIELD: Thread.yield(); break;
+			default: LockSupport.parkNanos(1); break;
+		}
+	}
+	
+	// --- state ---
+	
+	/**
+	 * Number of events published but not yet taken by a consumer
+	 */
+	public int size() {
+		return (int) Math.max(0, head.get() - tail.get());
+	}
+	
+	public long dropped() {
+		return dropped.get();
+	}
+	
+	/**
+	 * Stops accepting events, waits for the consumers to drain the pipeline.
+	 * Interrupted, returns early with the interrupt flag set
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		try {
+			for(Thread consumer : consumers)
+				consumer.join();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	// --- arities ---
+
+	public static class P0 extends EventPipeline {
+		
+		private final Event.P0 event;
+		
+		public static P0 attach(Event.P0 event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P0(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static P0 attach(Event.P0 event, int capacity) {
+			return new P0(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P0(Event.P0 event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 0, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish() {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		protected void dispatch(Object[] arguments) {
+			event.trigger();
+		}
+	}
+
+	public static class P1<A> extends EventPipeline {
+		
+		private final Event.P1<A> event;
+		
+		public static <A> P1<A> attach(Event.P1<A> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P1<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A> P1<A> attach(Event.P1<A> event, int capacity) {
+			return new P1<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P1(Event.P1<A> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 1, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0]);
+		}
+	}
+
+	public static class P2<A,B> extends EventPipeline {
+		
+		private final Event.P2<A,B> event;
+		
+		public static <A,B> P2<A,B> attach(Event.P2<A,B> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P2<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B> P2<A,B> attach(Event.P2<A,B> event, int capacity) {
+			return new P2<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P2(Event.P2<A,B> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 2, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1]);
+		}
+	}
+
+	public static class P3<A,B,C> extends EventPipeline {
+		
+		private final Event.P3<A,B,C> event;
+		
+		public static <A,B,C> P3<A,B,C> attach(Event.P3<A,B,C> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P3<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C> P3<A,B,C> attach(Event.P3<A,B,C> event, int capacity) {
+			return new P3<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P3(Event.P3<A,B,C> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 3, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2]);
+		}
+	}
+
+	public static class P4<A,B,C,D> extends EventPipeline {
+		
+		private final Event.P4<A,B,C,D> event;
+		
+		public static <A,B,C,D> P4<A,B,C,D> attach(Event.P4<A,B,C,D> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P4<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D> P4<A,B,C,D> attach(Event.P4<A,B,C,D> event, int capacity) {
+			return new P4<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P4(Event.P4<A,B,C,D> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 4, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3]);
+		}
+	}
+
+	public static class P5<A,B,C,D,E> extends EventPipeline {
+		
+		private final Event.P5<A,B,C,D,E> event;
+		
+		public static <A,B,C,D,E> P5<A,B,C,D,E> attach(Event.P5<A,B,C,D,E> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P5<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D,E> P5<A,B,C,D,E> attach(Event.P5<A,B,C,D,E> event, int capacity) {
+			return new P5<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P5(Event.P5<A,B,C,D,E> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 5, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d, E e) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			slot.arguments[4] = e;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3], (E) arguments[4]);
+		}
+	}
+
+	public static class P6<A,B,C,D,E,F> extends EventPipeline {
+		
+		private final Event.P6<A,B,C,D,E,F> event;
+		
+		public static <A,B,C,D,E,F> P6<A,B,C,D,E,F> attach(Event.P6<A,B,C,D,E,F> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P6<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D,E,F> P6<A,B,C,D,E,F> attach(Event.P6<A,B,C,D,E,F> event, int capacity) {
+			return new P6<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P6(Event.P6<A,B,C,D,E,F> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 6, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d, E e, F f) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			slot.arguments[4] = e;
+			slot.arguments[5] = f;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3], (E) arguments[4], (F) arguments[5]);
+		}
+	}
+
+	public static class P7<A,B,C,D,E,F,G> extends EventPipeline {
+		
+		private final Event.P7<A,B,C,D,E,F,G> event;
+		
+		public static <A,B,C,D,E,F,G> P7<A,B,C,D,E,F,G> attach(Event.P7<A,B,C,D,E,F,G> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P7<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D,E,F,G> P7<A,B,C,D,E,F,G> attach(Event.P7<A,B,C,D,E,F,G> event, int capacity) {
+			return new P7<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P7(Event.P7<A,B,C,D,E,F,G> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 7, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d, E e, F f, G g) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			slot.arguments[4] = e;
+			slot.arguments[5] = f;
+			slot.arguments[6] = g;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3], (E) arguments[4], (F) arguments[5], (G) arguments[6]);
+		}
+	}
+
+	public static class P8<A,B,C,D,E,F,G,H> extends EventPipeline {
+		
+		private final Event.P8<A,B,C,D,E,F,G,H> event;
+		
+		public static <A,B,C,D,E,F,G,H> P8<A,B,C,D,E,F,G,H> attach(Event.P8<A,B,C,D,E,F,G,H> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P8<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D,E,F,G,H> P8<A,B,C,D,E,F,G,H> attach(Event.P8<A,B,C,D,E,F,G,H> event, int capacity) {
+			return new P8<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P8(Event.P8<A,B,C,D,E,F,G,H> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 8, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d, E e, F f, G g, H h) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			slot.arguments[4] = e;
+			slot.arguments[5] = f;
+			slot.arguments[6] = g;
+			slot.arguments[7] = h;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3], (E) arguments[4], (F) arguments[5], (G) arguments[6], (H) arguments[7]);
+		}
+	}
+
+	public static class P9<A,B,C,D,E,F,G,H,I> extends EventPipeline {
+		
+		private final Event.P9<A,B,C,D,E,F,G,H,I> event;
+		
+		public static <A,B,C,D,E,F,G,H,I> P9<A,B,C,D,E,F,G,H,I> attach(Event.P9<A,B,C,D,E,F,G,H,I> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			return new P9<>(event, capacity, consumers, waitStrategy, backpressure);
+		}
+		
+		public static <A,B,C,D,E,F,G,H,I> P9<A,B,C,D,E,F,G,H,I> attach(Event.P9<A,B,C,D,E,F,G,H,I> event, int capacity) {
+			return new P9<>(event, capacity, 1, WaitStrategy.PARK, Backpressure.BLOCK);
+		}
+		
+		public P9(Event.P9<A,B,C,D,E,F,G,H,I> event, int capacity, int consumers, WaitStrategy waitStrategy, Backpressure backpressure) {
+			super(event, 9, capacity, consumers, waitStrategy, backpressure);
+			this.event = event;
+			start();
+		}
+		
+		public boolean publish(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+			final Slot slot = claim();
+			if(slot == null) return false;
+			slot.arguments[0] = a;
+			slot.arguments[1] = b;
+			slot.arguments[2] = c;
+			slot.arguments[3] = d;
+			slot.arguments[4] = e;
+			slot.arguments[5] = f;
+			slot.arguments[6] = g;
+			slot.arguments[7] = h;
+			slot.arguments[8] = i;
+			commit(slot);
+			return true;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void dispatch(Object[] arguments) {
+			event.trigger((A) arguments[0], (B) arguments[1], (C) arguments[2], (D) arguments[3], (E) arguments[4], (F) arguments[5], (G) arguments[6], (H) arguments[7], (I) arguments[8]);
+		}
+	}
+}
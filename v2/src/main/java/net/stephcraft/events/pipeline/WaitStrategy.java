@@ -0,0 +1,10 @@
+package net.stephcraft.events.pipeline;
+
+/**
+ * How pipeline threads wait for a slot (producers) or an event (consumers)
+ */
+public enum WaitStrategy {
+	BUSY_SPIN,
+	YIELD,
+	PARK
+}
@@ -0,0 +1,6 @@
+package net.stephcraft.events.settings;
+
+public enum EventBatchOrder {
+	EVENT_MAJOR,   // every listener for an element, then the next element
+	LISTENER_MAJOR // every element for a listener, then the next listener
+}
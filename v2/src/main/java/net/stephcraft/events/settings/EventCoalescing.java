@@ -0,0 +1,7 @@
+package net.stephcraft.events.settings;
+
+public enum EventCoalescing {
+	LATEST,   // every drain dispatches the latest post of each key
+	THROTTLE, // a key dispatches at most once per window, the latest post once the window elapsed
+	DEBOUNCE  // a key dispatches once it was not posted for a window, its latest post
+}
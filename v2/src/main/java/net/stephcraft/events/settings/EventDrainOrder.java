@@ -0,0 +1,6 @@
+package net.stephcraft.events.settings;
+
+public enum EventDrainOrder {
+	FIFO,    // posting order, across every event of the queue
+	PRIORITY // lowest queue priority first (see setQueue), posting order within a priority
+}
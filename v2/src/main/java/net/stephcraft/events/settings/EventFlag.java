@@ -2,5 +2,9 @@ package net.stephcraft.events.settings;
 
 public enum EventFlag {
 	CANCELLABLE,
-	CHRONICLED
+	CHRONICLED,
+	CONCURRENT,
+	METRICS,
+	COMPILED,
+	PARALLEL_TIER
 }
@@ -0,0 +1,6 @@
+package net.stephcraft.events.settings;
+
+public enum EventReplaySpeed {
+	RECORDED, // waits between triggers as long as they were apart when recorded
+	UNLIMITED // triggers one after another, for load testing
+}
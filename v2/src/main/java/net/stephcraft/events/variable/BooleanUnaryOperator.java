@@ -0,0 +1,9 @@
+package net.stephcraft.events.variable;
+
+/**
+ * The boolean counterpart of {@link java.util.function.IntUnaryOperator}, missing from java.util.function
+ */
+@FunctionalInterface
+public interface BooleanUnaryOperator {
+	boolean applyAsBoolean(boolean operand);
+}
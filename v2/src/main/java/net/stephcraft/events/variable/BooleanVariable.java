@@ -0,0 +1,48 @@
+package net.stephcraft.events.variable;
+
+/**
+ * Unboxed {@link Variable} of a boolean, reusable between triggers with {@link #reset(boolean)}
+ */
+public class BooleanVariable {
+	protected boolean value;
+	protected boolean defaultValue;
+	
+	protected BooleanVariable(boolean value) {
+		this.value = value;
+		this.defaultValue = value;
+	}
+	
+	public static BooleanVariable of(boolean value) {
+		return new BooleanVariable(value);
+	}
+	
+	public void apply(BooleanUnaryOperator operator) {
+		value = operator.applyAsBoolean(value);
+	}
+	
+	public void set(boolean value) {
+		this.value = value;
+	}
+	
+	public boolean get() {
+		return value;
+	}
+	
+	public boolean mutated() {
+		return value != defaultValue;
+	}
+	
+	public boolean getDefault() {
+		return defaultValue;
+	}
+	
+	/**
+	 * Starts over with a new default value, so an emitter can keep one holder per trigger site
+	 * (not while a trigger using it is still running, for instance from a nested trigger)
+	 */
+	public BooleanVariable reset(boolean value) {
+		this.value = value;
+		this.defaultValue = value;
+		return this;
+	}
+}
@@ -0,0 +1,50 @@
+package net.stephcraft.events.variable;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Unboxed {@link Variable} of a double, reusable between triggers with {@link #reset(double)}
+ */
+public class DoubleVariable {
+	protected double value;
+	protected double defaultValue;
+	
+	protected DoubleVariable(double value) {
+		this.value = value;
+		this.defaultValue = value;
+	}
+	
+	public static DoubleVariable of(double value) {
+		return new DoubleVariable(value);
+	}
+	
+	public void apply(DoubleUnaryOperator operator) {
+		value = operator.applyAsDouble(value);
+	}
+	
+	public void set(double value) {
+		this.value = value;
+	}
+	
+	public double get() {
+		return value;
+	}
+	
+	public boolean mutated() {
+		return Double.compare(value, defaultValue) != 0;
+	}
+	
+	public double getDefault() {
+		return defaultValue;
+	}
+	
+	/**
+	 * Starts over with a new default value, so an emitter can keep one holder per trigger site
+	 * (not while a trigger using it is still running, for instance from a nested trigger)
+	 */
+	public DoubleVariable reset(double value) {
+		this.value = value;
+		this.defaultValue = value;
+		return this;
+	}
+}
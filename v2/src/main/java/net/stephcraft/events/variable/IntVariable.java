@@ -0,0 +1,50 @@
+package net.stephcraft.events.variable;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Unboxed {@link Variable} of an int, reusable between triggers with {@link #reset(int)}
+ */
+public class IntVariable {
+	protected int value;
+	protected int defaultValue;
+	
+	protected IntVariable(int value) {
+		this.value = value;
+		this.defaultValue = value;
+	}
+	
+	public static IntVariable of(int value) {
+		return new IntVariable(value);
+	}
+	
+	public void apply(IntUnaryOperator operator) {
+		value = operator.applyAsInt(value);
+	}
+	
+	public void set(int value) {
+		this.value = value;
+	}
+	
+	public int get() {
+		return value;
+	}
+	
+	public boolean mutated() {
+		return value != defaultValue;
+	}
+	
+	public int getDefault() {
+		return defaultValue;
+	}
+	
+	/**
+	 * Starts over with a new default value, so an emitter can keep one holder per trigger site
+	 * (not while a trigger using it is still running, for instance from a nested trigger)
+	 */
+	public IntVariable reset(int value) {
+		this.value = value;
+		this.defaultValue = value;
+		return this;
+	}
+}
@@ -0,0 +1,50 @@
+package net.stephcraft.events.variable;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Unboxed {@link Variable} of a long, reusable between triggers with {@link #reset(long)}
+ */
+public class LongVariable {
+	protected long value;
+	protected long defaultValue;
+	
+	protected LongVariable(long value) {
+		this.value = value;
+		this.defaultValue = value;
+	}
+	
+	public static LongVariable of(long value) {
+		return new LongVariable(value);
+	}
+	
+	public void apply(LongUnaryOperator operator) {
+		value = operator.applyAsLong(value);
+	}
+	
+	public void set(long value) {
+		this.value = value;
+	}
+	
+	public long get() {
+		return value;
+	}
+	
+	public boolean mutated() {
+		return value != defaultValue;
+	}
+	
+	public long getDefault() {
+		return defaultValue;
+	}
+	
+	/**
+	 * Starts over with a new default value, so an emitter can keep one holder per trigger site
+	 * (not while a trigger using it is still running, for instance from a nested trigger)
+	 */
+	public LongVariable reset(long value) {
+		this.value = value;
+		this.defaultValue = value;
+		return this;
+	}
+}
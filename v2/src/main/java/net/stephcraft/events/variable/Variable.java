@@ -1,9 +1,10 @@
 package net.stephcraft.events.variable;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 public class Variable<T> extends Constant<T> {
-	protected final T defaultValue;
+	protected T defaultValue;
 	
 	protected Variable(T value) {
         super(value);
@@ -23,10 +24,19 @@ public class Variable<T> extends Constant<T> {
     }
     
     public boolean mutated() {
-    	return value != defaultValue;
+    	return !Objects.equals(value, defaultValue);
     }
     
     public T getDefault() {
     	return defaultValue;
     }
+    
+    /**
+     * Starts over with a new default value, so an emitter can keep one holder per trigger site
+     */
+    public Variable<T> reset(T value) {
+    	this.value = value;
+    	this.defaultValue = value;
+    	return this;
+    }
 }
\ No newline at end of file
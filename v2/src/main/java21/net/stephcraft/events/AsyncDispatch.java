@@ -0,0 +1,18 @@
+package net.stephcraft.events;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executor of asynchronous triggers, one virtual thread per trigger
+ */
+final class AsyncDispatch {
+	
+	private static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+	
+	private AsyncDispatch() {}
+	
+	static Executor executor() {
+		return EXECUTOR;
+	}
+}
@@ -0,0 +1,56 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * A warmed up trigger allocates nothing, counted by the thread allocation counter
+ */
+public class AllocationTest {
+	
+	private static final int WARMUP = 200_000;
+	private static final int TRIGGERS = 1_000_000;
+	
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	
+	private final Object entity = new Object();
+	private final Integer damage = 5;
+	
+	private int executed;
+	
+	@Test
+	public void plain() {
+		Event.P2<Object, Integer> event = Event.P2.create(EventFlag.CANCELLABLE);
+		event.bind((entity, damage) -> executed++);
+		event.bind((entity, damage) -> executed++, 1);
+		
+		assertEquals(0, allocated(() -> event.trigger(entity, damage)));
+	}
+	
+	@Test
+	public void chronicled() {
+		Event.P2<Object, Integer> event = Event.P2.create(EventFlag.CHRONICLED);
+		event.bind(EventState.PRE, (entity, damage) -> executed++);
+		event.bind(EventState.POST, (entity, damage) -> executed++);
+		
+		final Runnable action = () -> executed++;
+		assertEquals(0, allocated(() -> event.trigger(entity, damage, action)));
+	}
+	
+	private long allocated(Runnable trigger) {
+		for(int index = 0; index < WARMUP; index++)
+			trigger.run();
+		
+		final long thread = Thread.currentThread().getId();
+		final long start = threads.getThreadAllocatedBytes(thread);
+		for(int index = 0; index < TRIGGERS; index++)
+			trigger.run();
+		return threads.getThreadAllocatedBytes(thread) - start;
+	}
+}
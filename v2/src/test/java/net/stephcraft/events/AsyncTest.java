@@ -0,0 +1,81 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Asynchronous triggers never share frames with the triggers running meanwhile on the calling thread
+ */
+public class AsyncTest {
+	
+	private static final int ROUNDS = 10_000;
+	
+	private final Object entity = new Object();
+	
+	@Test
+	public void event() throws Exception {
+		Event.P1<Integer> event = Event.P1.create(EventFlag.CANCELLABLE);
+		event.bind((damage) -> {
+			if(damage < 0) event.cancel();
+			Thread.yield();
+		});
+		
+		assertEquals(0, race(event::triggerAsync, () -> {
+			event.trigger(1);
+			return event.isCancelled();
+		}));
+	}
+	
+	@Test
+	public void redirected() throws Exception {
+		Event.P1<Integer> source = Event.P1.create(EventFlag.CANCELLABLE);
+		Event.P2<Object, Integer> target = Event.P2.create(EventFlag.CANCELLABLE);
+		target.bind((entity, damage) -> {
+			if(damage < 0) target.cancel();
+			Thread.yield();
+		});
+		source.redirect(target, entity);
+		
+		assertEquals(0, race(source::triggerAsync, () -> {
+			target.trigger(entity, 1);
+			return target.isCancelled();
+		}));
+	}
+	
+	private interface Async {
+		CompletableFuture<Boolean> trigger(Executor executor, Integer damage);
+	}
+	
+	private interface Sync {
+		boolean trigger();
+	}
+	
+	/**
+	 * Cancelling asynchronous triggers against uncancelled synchronous ones
+	 * @return the synchronous triggers which saw a cancellation
+	 */
+	private int race(Async async, Sync sync) throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		int cancelled = 0;
+		try {
+			for(int round = 0; round < ROUNDS; round++) {
+				final CompletableFuture<Boolean> future = async.trigger(executor, -1);
+				if(sync.trigger()) cancelled++;
+				assertTrue(future.get());
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		return cancelled;
+	}
+}
@@ -0,0 +1,47 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Compiled dispatchers skip the ignoreCancelled listeners like the generic loop does
+ */
+public class CompiledTest {
+	
+	private static final int TRIGGERS = 2000;
+	
+	private int skipped;
+	
+	@Test
+	public void plain() {
+		assertEquals(0, nested(Event.P1.create(EventFlag.CANCELLABLE)));
+	}
+	
+	@Test
+	public void compiled() {
+		assertEquals(0, nested(Event.P1.create(EventFlag.CANCELLABLE, EventFlag.COMPILED)));
+	}
+	
+	/**
+	 * The first listener cancels the trigger then triggers the event again, uncancelled.
+	 * Once the nested trigger returns, the ignoreCancelled listener still has to skip the outer one
+	 */
+	private int nested(Event.P1<Integer> event) {
+		skipped = 0;
+		event.bind((depth) -> {
+			if(depth > 0) return;
+			event.cancel();
+			event.trigger(1);
+		}, 0);
+		event.bind((depth) -> {
+			if(depth == 0) skipped++;
+		}, 1, true);
+		
+		for(int index = 0; index < TRIGGERS; index++)
+			event.trigger(0);
+		return skipped;
+	}
+}
@@ -0,0 +1,131 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventReplaySpeed;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Every trigger of a recorded event gets journaled, redirected ones included, and replays the same
+ */
+public class JournalTest {
+	
+	@TempDir
+	Path directory;
+	
+	private final String entity = "zombie";
+	
+	@Test
+	public void redirected() throws IOException {
+		Event.P1<Integer> source = Event.P1.create(EventFlag.CANCELLABLE);
+		Event.P2<String, Integer> target = Event.P2.create(EventFlag.CANCELLABLE);
+		target.bind((entity, damage) -> {});
+		source.redirect(target, entity);
+		
+		// planned before recording, recording replans
+		source.trigger(1);
+		
+		try(EventJournal journal = new EventJournal(directory.resolve("redirected.journal"), 1 << 12)) {
+			journal.record(target, 1, JournalCodec.STRING, JournalCodec.INTEGER);
+			source.trigger(2);
+			target.trigger(entity, 3);
+			assertEquals(2, journal.size());
+		}
+	}
+	
+	@Test
+	public void missingCodec() throws IOException {
+		Event.P2<String, Integer> event = Event.P2.create();
+		final int[] executed = { 0 };
+		event.bind((entity, damage) -> executed[0]++);
+		
+		try(EventJournal journal = new EventJournal(directory.resolve("codec.journal"), 1 << 12)) {
+			journal.record(event, 1, null, JournalCodec.INTEGER);
+			event.trigger(entity, 1);
+			assertEquals(1, executed[0]);
+			assertEquals(0, journal.size());
+			assertEquals(1, journal.dropped());
+		}
+	}
+	
+	/**
+	 * The recorded and the replayed events, with listeners logging what they receive
+	 */
+	private static class Graph {
+		private final List<String> log = new ArrayList<>();
+		private final Event.P5<String, Integer, Long, Double, Boolean> objects = Event.P5.create();
+		private final Event.Int1 damage = Event.Int1.create();
+		private final Event.P1<String> chat = Event.P1.create(EventFlag.CHRONICLED);
+		
+		private Graph() {
+			objects.bind((a, b, c, d, e) -> log.add("objects " + a + " " + b + " " + c + " " + d + " " + e));
+			damage.bind((amount) -> log.add("damage " + amount));
+			chat.bind(EventState.PRE, (message) -> log.add("pre " + message));
+			chat.bind(EventState.POST, (message) -> log.add("post " + message));
+		}
+	}
+	
+	@Test
+	public void replay() throws IOException {
+		final Path path = directory.resolve("replay.journal");
+		final Graph recorded = new Graph();
+		
+		try(EventJournal journal = new EventJournal(path, 1 << 12)) {
+			journal.record(recorded.objects, 1, JournalCodec.STRING, JournalCodec.INTEGER, JournalCodec.LONG, JournalCodec.DOUBLE, JournalCodec.BOOLEAN);
+			journal.record(recorded.damage, 2);
+			journal.record(recorded.chat, 3, JournalCodec.STRING);
+			
+			recorded.objects.trigger("a", 1, 2L, 3.5, true);
+			recorded.damage.trigger(7);
+			recorded.chat.trigger("hi");
+			recorded.objects.trigger(null, null, null, null, null);
+			recorded.damage.triggerBatch(2, new int[] { 8, 9 });
+			recorded.damage.reflectionTrigger(EventState.DEFAULT, 10);
+			recorded.objects.trigger("b", -1, Long.MAX_VALUE, -0.5, false);
+			assertEquals(9, journal.size());
+			assertEquals(0, journal.dropped());
+		}
+		
+		final Graph replayed = new Graph();
+		try(JournalReplay replay = new JournalReplay(path)) {
+			replay.bind(1, replayed.objects, JournalCodec.STRING, JournalCodec.INTEGER, JournalCodec.LONG, JournalCodec.DOUBLE, JournalCodec.BOOLEAN);
+			replay.bind(2, replayed.damage);
+			replay.bind(3, replayed.chat, JournalCodec.STRING);
+			assertEquals(9, replay.replay(EventReplaySpeed.UNLIMITED));
+		}
+		assertEquals(recorded.log, replayed.log);
+	}
+	
+	@Test
+	public void cleared() throws IOException {
+		final Path path = directory.resolve("cleared.journal");
+		final Graph recorded = new Graph();
+		
+		// records of the same length, the ones left behind line up with the new ones
+		try(EventJournal journal = new EventJournal(path, 1 << 12)) {
+			journal.record(recorded.damage, 2);
+			recorded.damage.trigger(1);
+			recorded.damage.trigger(2);
+			recorded.damage.trigger(3);
+			journal.clear();
+			recorded.damage.trigger(4);
+			assertEquals(1, journal.size());
+		}
+		
+		final Graph replayed = new Graph();
+		try(JournalReplay replay = new JournalReplay(path)) {
+			replay.bind(2, replayed.damage);
+			assertEquals(1, replay.replay(EventReplaySpeed.UNLIMITED));
+		}
+		assertEquals(List.of("damage 4"), replayed.log);
+	}
+}
@@ -0,0 +1,35 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Wildcard and keyed bindings of the same listener are independent
+ */
+public class KeyedTest {
+	
+	@Test
+	public void wildcard() {
+		KeyedEvent<String, Listener.P2<String, Integer>, Event.P2<String, Integer>> event = KeyedEvent.create(Event.P2::create);
+		AtomicInteger calls = new AtomicInteger();
+		Listener.P2<String, Integer> listener = (entity, damage) -> calls.incrementAndGet();
+		
+		event.bind("zombie", listener);
+		Subscription any = event.bindAny(listener);
+		event.get("zombie").trigger("zombie", 1);
+		assertEquals(2, calls.get());
+		
+		// the keyed binding stays
+		any.cancel();
+		assertFalse(any.isActive());
+		event.get("zombie").trigger("zombie", 1);
+		assertEquals(3, calls.get());
+		
+		event.get("skeleton").trigger("skeleton", 1);
+		assertEquals(3, calls.get());
+	}
+}
@@ -0,0 +1,51 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.stephcraft.events.metrics.EventMetrics;
+import net.stephcraft.events.settings.EventBatchOrder;
+import net.stephcraft.events.settings.EventFlag;
+import net.stephcraft.events.settings.EventState;
+
+/**
+ * Metrics count what the listeners observe, however the event is triggered
+ */
+public class MetricsTest {
+	
+	@Test
+	public void batch() {
+		for(EventBatchOrder order : EventBatchOrder.values()) {
+			Event.P1<Integer> event = Event.P1.create(EventFlag.CANCELLABLE, EventFlag.METRICS);
+			event.bind((damage) -> { if(damage < 0) event.cancel(); });
+			
+			event.triggerBatch(EventState.DEFAULT, order, 4, new Integer[] { 1, -1, 2, -2 });
+			
+			final EventMetrics metrics = event.getMetrics();
+			assertEquals(4, metrics.getTriggers(), order.name());
+			assertEquals(2, metrics.getCancellations(), order.name());
+			assertEquals(4, metrics.getInvocations(), order.name());
+		}
+	}
+	
+	@Test
+	public void states() {
+		Event.P1<Integer> event = Event.P1.create(EventFlag.CHRONICLED, EventFlag.METRICS);
+		Listener.P1<Integer> listener = (damage) -> {};
+		event.bind(EventState.PRE, listener);
+		Subscription post = event.bind(EventState.POST, listener);
+		
+		// still bound to PRE
+		post.cancel();
+		event.trigger(1);
+		
+		final EventMetrics metrics = event.getMetrics();
+		assertEquals(1, metrics.getListeners().size());
+		assertEquals(1, metrics.getListeners().values().iterator().next().getCount());
+		
+		event.unbind(listener);
+		assertTrue(metrics.getListeners().isEmpty());
+	}
+}
@@ -0,0 +1,39 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.stephcraft.events.settings.EventFlag;
+
+/**
+ * Redirected triggers report the target's cancellation to cancellable sources only, flattened or not
+ */
+public class RedirectTest {
+	
+	private final Object entity = new Object();
+	
+	@Test
+	public void cancellable() {
+		Event.P1<Integer> source = Event.P1.create(EventFlag.CANCELLABLE);
+		Event.P2<Object, Integer> target = Event.P2.create(EventFlag.CANCELLABLE);
+		target.bind((entity, damage) -> target.cancel());
+		source.redirect(target, entity);
+		
+		source.trigger(5);
+		assertTrue(source.isCancelled());
+	}
+	
+	@Test
+	public void notCancellable() {
+		Event.P1<Integer> source = Event.P1.create();
+		Event.P2<Object, Integer> target = Event.P2.create(EventFlag.CANCELLABLE);
+		target.bind((entity, damage) -> target.cancel());
+		source.redirect(target, entity);
+		
+		source.trigger(5);
+		assertFalse(source.isCancelled());
+		assertTrue(target.isCancelled());
+	}
+}
@@ -0,0 +1,53 @@
+package net.stephcraft.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Listeners bound with an owner stay bound exactly as long as the owner is reachable
+ */
+public class WeakTest {
+	
+	private static final AtomicInteger DAMAGE = new AtomicInteger();
+	
+	private static class Player {
+		private int health = 10;
+		
+		private void onDamage(Integer damage) {
+			health -= damage;
+			DAMAGE.addAndGet(damage);
+		}
+	}
+	
+	@Test
+	public void owner() throws InterruptedException {
+		Event.P1<Integer> event = Event.P1.create();
+		Player player = new Player();
+		Subscription subscription = event.bindWeak(player, Player::onDamage);
+		
+		// the method reference is only reachable from the binding, the owner keeps it bound
+		collect();
+		event.trigger(3);
+		assertEquals(7, player.health);
+		assertTrue(subscription.isActive());
+		
+		player = null;
+		for(int attempt = 0; attempt < 50 && subscription.isActive(); attempt++)
+			collect();
+		assertFalse(subscription.isActive());
+		
+		DAMAGE.set(0);
+		event.trigger(3);
+		assertEquals(0, DAMAGE.get());
+	}
+	
+	private static void collect() throws InterruptedException {
+		System.gc();
+		Thread.sleep(10);
+	}
+}